@@ -0,0 +1,26 @@
+package com.ssh.backend.benchmark;
+
+import com.ssh.backend.entity.AuthProvider;
+import com.ssh.backend.entity.User;
+
+final class BenchmarkUsers {
+
+    private BenchmarkUsers() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .username(username(id))
+                .email(username(id) + "@bench.local")
+                .password("")
+                .fullName("Bench User " + id)
+                .provider(AuthProvider.LOCAL)
+                .enabled(true)
+                .build();
+    }
+
+    static String username(long id) {
+        return "bench" + id;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ssh.backend.benchmark;
+
+import com.ssh.backend.entity.User;
+import com.ssh.backend.security.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 처리 비용 측정 (토큰 생성, 검증, 캐시 적중/미적중)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    // 32바이트 테스트용 키 (base64)
+    static final String SECRET = "c3NoLWJhY2tlbmQtam1oLWJlbmNobWFyay1zZWNyZXQ=";
+
+    private JwtService cachedJwtService;
+    private JwtService uncachedJwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedJwtService = jwtService(10_000);
+        uncachedJwtService = jwtService(0);
+        user = BenchmarkUsers.user(1L);
+        token = cachedJwtService.generateToken(user);
+    }
+
+    static JwtService jwtService(int verifiedCacheSize) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", verifiedCacheSize);
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheTtl", 60_000L);
+        jwtService.init();
+        return jwtService;
+    }
+
+    // buildToken (generateToken -> buildToken)
+    @Benchmark
+    public String generateToken() {
+        return cachedJwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims extractAllClaimsUncached() {
+        return uncachedJwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public Claims extractAllClaimsCached() {
+        return cachedJwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValidUncached() {
+        return uncachedJwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public boolean isTokenValidCached() {
+        return cachedJwtService.isTokenValid(token, user);
+    }
+}
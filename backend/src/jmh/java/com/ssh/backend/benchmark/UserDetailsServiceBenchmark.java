@@ -0,0 +1,84 @@
+package com.ssh.backend.benchmark;
+
+import com.ssh.backend.config.ApplicationConfig;
+import com.ssh.backend.entity.User;
+import com.ssh.backend.repository.UserRepository;
+import com.ssh.backend.security.UserCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * ApplicationConfig.userDetailsService 조회 경로 측정 (in-memory 스텁 저장소)
+ * DB 왕복 비용은 제외하고, 캐시 적중/미적중 시 필터가 지불하는 순수 CPU 비용만 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserDetailsServiceBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+
+    private UserDetailsService cachedService;
+    private UserDetailsService uncachedService;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        UserRepository userRepository = stubRepository(LongStream.rangeClosed(1, USER_COUNT)
+                .mapToObj(BenchmarkUsers::user)
+                .collect(Collectors.toMap(User::getId, Function.identity())));
+
+        cachedService = new ApplicationConfig(userRepository, new UserCache(USER_COUNT, 300_000L)).userDetailsService();
+        uncachedService = new ApplicationConfig(userRepository, new UserCache(0, 300_000L)).userDetailsService();
+    }
+
+    private String nextLoginId() {
+        next = next % USER_COUNT + 1;
+        return String.valueOf(next);
+    }
+
+    @Benchmark
+    public UserDetails loadByIdCached() {
+        return cachedService.loadUserByUsername(nextLoginId());
+    }
+
+    @Benchmark
+    public UserDetails loadByIdUncached() {
+        return uncachedService.loadUserByUsername(nextLoginId());
+    }
+
+    @Benchmark
+    public UserDetails loadByUsernameCached() {
+        return cachedService.loadUserByUsername(BenchmarkUsers.username(Long.parseLong(nextLoginId())));
+    }
+
+    // findById / findByUsername / findByEmail 만 구현한 UserRepository 스텁
+    private static UserRepository stubRepository(Map<Long, User> users) {
+        Map<String, User> byUsername = users.values().stream()
+                .collect(Collectors.toMap(User::getUsername, Function.identity()));
+        Map<String, User> byEmail = users.values().stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(users.get((Long) args[0]));
+                    case "findByUsername" -> Optional.ofNullable(byUsername.get((String) args[0]));
+                    case "findByEmail" -> Optional.ofNullable(byEmail.get((String) args[0]));
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
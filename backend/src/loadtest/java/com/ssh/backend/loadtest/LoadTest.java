@@ -0,0 +1,244 @@
+package com.ssh.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 피드/팔로우 조회 엔드포인트 부하 테스트
+ * 같은 DB 를 보는 서버 두 대(플랫폼 스레드 / 가상 스레드 모드)를 띄워 두고 각 대상에 동일한 부하를 걸어
+ * 처리량(req/s)과 p50/p99 지연을 비교한다.
+ * 사용자별 캐시/잠금이 한 사용자에 몰리지 않도록 loadtest.users 명으로 로그인해 클라이언트마다 번갈아 배정한다.
+ * (username 의 %d 를 0 부터 users-1 로 바꿔 로그인, 시드 사용자는 seed 프로필 실행 로그의 접두사 사용)
+ * 로그인 속도 제한에 걸리지 않도록 서버는 --rate-limit.enabled=false 로 띄운다.
+ *
+ * <pre>
+ * VIRTUAL_THREADS_ENABLED=false SERVER_PORT=8080 ./gradlew bootRun --args='--rate-limit.enabled=false'
+ * VIRTUAL_THREADS_ENABLED=true  SERVER_PORT=8081 ./gradlew bootRun -PjavaVersion=21 --args='--rate-limit.enabled=false'
+ * ./gradlew loadTest -Ploadtest.targets=platform=http://localhost:8080,virtual=http://localhost:8081 \
+ *     -Ploadtest.username=seedxxxx_%d -Ploadtest.password=seed-password -Ploadtest.users=100 \
+ *     -Ploadtest.concurrency=400
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern USER_ID = Pattern.compile("\"user\"\\s*:\\s*\\{[^}]*?\"id\"\\s*:\\s*(\\d+)");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+    private final int users = Integer.getInteger("loadtest.users", 1);
+    private final Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+    private final Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 30));
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest().run();
+    }
+
+    private void run() throws Exception {
+        Map<String, String> targets = parseTargets(System.getProperty("loadtest.targets", "default=http://localhost:8080"));
+        List<Result> results = new ArrayList<>();
+
+        for (Map.Entry<String, String> target : targets.entrySet()) {
+            String baseUrl = target.getValue();
+            List<Login> logins = loginAll(baseUrl);
+
+            // 사용자 ID 가 들어가는 경로는 로그인한 사용자마다 (loadtest.user-id 를 주면 모두 그 사용자)
+            Map<String, Function<String, String>> scenarios = new LinkedHashMap<>();
+            scenarios.put("feed", userId -> "/api/posts/cursor?size=20");
+            scenarios.put("home", userId -> "/api/posts/home?size=20");
+            scenarios.put("followers", userId -> "/api/users/" + userId + "/followers");
+            scenarios.put("follow-status", userId -> "/api/users/" + userId + "/follow-status");
+
+            for (Map.Entry<String, Function<String, String>> scenario : scenarios.entrySet()) {
+                List<HttpRequest> requests = new ArrayList<>(logins.size());
+                for (Login login : logins) {
+                    String userId = System.getProperty("loadtest.user-id", login.userId());
+                    requests.add(HttpRequest.newBuilder(URI.create(baseUrl + scenario.getValue().apply(userId)))
+                            .header("Authorization", "Bearer " + login.token())
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build());
+                }
+                System.out.printf("[%s] %s: warmup %ds, measure %ds, concurrency %d, users %d%n",
+                        target.getKey(), scenario.getKey(), warmup.toSeconds(), duration.toSeconds(),
+                        concurrency, logins.size());
+                drive(requests, warmup);
+                results.add(drive(requests, duration).named(target.getKey(), scenario.getKey()));
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-10s %-14s %10s %8s %12s %10s %10s%n",
+                "target", "scenario", "requests", "errors", "req/s", "p50(ms)", "p99(ms)");
+        for (Result result : results) {
+            System.out.printf("%-10s %-14s %10d %8d %12.1f %10.2f %10.2f%n",
+                    result.target, result.scenario, result.requests, result.errors,
+                    result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99));
+        }
+    }
+
+    // concurrency 개의 클라이언트가 각자 응답을 받으면 바로 다음 요청을 보냄 (closed loop)
+    // 클라이언트 i 는 requests[i % 사용자 수] 의 사용자로 요청
+    private Result drive(List<HttpRequest> requests, Duration length) throws InterruptedException {
+        long[][] latencies = new long[concurrency][];
+        int[] counts = new int[concurrency];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        long start = System.nanoTime();
+        long deadline = start + length.toNanos();
+        for (int i = 0; i < concurrency; i++) {
+            int worker = i;
+            HttpRequest request = requests.get(i % requests.size());
+            workers.execute(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - sent;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latencies[worker] = samples;
+                    counts[worker] = count;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        workers.shutdown();
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (int i = 0; i < concurrency; i++) {
+            System.arraycopy(latencies[i], 0, merged, offset, counts[i]);
+            offset += counts[i];
+        }
+        Arrays.sort(merged);
+        return new Result(merged, errors.get(), elapsed);
+    }
+
+    private List<Login> loginAll(String baseUrl) throws IOException, InterruptedException {
+        String username = System.getProperty("loadtest.username");
+        String password = System.getProperty("loadtest.password");
+        if (username == null || password == null) {
+            throw new IllegalArgumentException("loadtest.username / loadtest.password are required");
+        }
+        if (users > 1 && !username.contains("%d")) {
+            throw new IllegalArgumentException("loadtest.username needs %d when loadtest.users > 1");
+        }
+
+        List<Login> logins = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            logins.add(login(baseUrl, username.contains("%d") ? String.format(username, i) : username, password));
+        }
+        return logins;
+    }
+
+    private Login login(String baseUrl, String username, String password) throws IOException, InterruptedException {
+
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + username + " on " + baseUrl + ": "
+                    + response.statusCode());
+        }
+
+        Matcher token = ACCESS_TOKEN.matcher(response.body());
+        Matcher userId = USER_ID.matcher(response.body());
+        if (!token.find() || !userId.find()) {
+            throw new IllegalStateException("Unexpected login response: " + response.body());
+        }
+        return new Login(token.group(1), userId.group(1));
+    }
+
+    private static Map<String, String> parseTargets(String spec) {
+        Map<String, String> targets = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            targets.put(parts[0], parts[1].replaceAll("/+$", ""));
+        }
+        return targets;
+    }
+
+    private record Login(String token, String userId) {
+    }
+
+    private static final class Result {
+
+        private final long[] sortedLatencies;
+        private final long requests;
+        private final long errors;
+        private final long elapsedNanos;
+        private String target;
+        private String scenario;
+
+        Result(long[] sortedLatencies, long errors, long elapsedNanos) {
+            this.sortedLatencies = sortedLatencies;
+            this.requests = sortedLatencies.length;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        Result named(String target, String scenario) {
+            this.target = target;
+            this.scenario = scenario;
+            return this;
+        }
+
+        double throughput() {
+            return requests / (elapsedNanos / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.ssh.backend.config;
 
+import com.ssh.backend.entity.User;
 import com.ssh.backend.repository.UserRepository;
+import com.ssh.backend.security.UserCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -17,17 +21,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class ApplicationConfig {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Bean
     public UserDetailsService userDetailsService() {
         return loginId -> {
             try {
                 Long userId = Long.parseLong(loginId);
-               return userRepository.findById(userId)
+                return userCache.getById(userId)
+                        .or(() -> userRepository.findById(userId).map(userCache::put))
                         .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + userId));
             } catch (NumberFormatException e) {
-                return userRepository.findByEmail(loginId)
-                        .or(()-> userRepository.findByUsername(loginId))
+                return userCache.getByUsername(loginId)
+                        .or(() -> userRepository.findByEmail(loginId).map(userCache::put))
+                        .or(()-> userRepository.findByUsername(loginId).map(userCache::put))
                         .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
             }
@@ -42,10 +49,23 @@ public class ApplicationConfig {
     }
 
 
-    //비밀번호 암호화: Bcrypt로 설정
+    //비밀번호 암호화: Bcrypt로 설정 (strength 변경 시 기존 해시는 로그인할 때 다시 인코딩)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt-strength}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // 로그인 성공 시 저장된 해시의 strength 가 설정값보다 낮으면 DaoAuthenticationProvider 가 호출
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (userDetails, newPassword) -> {
+            User user = userRepository.findByUsername(userDetails.getUsername())
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+            user.setPassword(newPassword);
+            User saved = userRepository.save(user);
+            userCache.evict(saved);
+            return saved;
+        };
     }
 
 }
@@ -0,0 +1,73 @@
+package com.ssh.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 타임라인 fan-out 전용 풀 (게시물 작성 요청 스레드와 분리)
+    @Bean(name = "timelineExecutor")
+    public Executor timelineExecutor(
+            @Value("${timeline.executor.pool-size}") int poolSize,
+            @Value("${timeline.executor.queue-capacity}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        // 가상 스레드 모드: DB 대기 위주 작업이라 작업마다 가상 스레드 (동시성은 커넥션 가드가 제한)
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("timeline-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("timeline-");
+        // 큐가 가득 차면 게시물 작성 스레드에서 직접 fan-out (거절 예외가 이미 저장된 게시물의 응답을 500 으로 만들지 않도록)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 로그인/회원가입 BCrypt 연산 전용 풀 (요청 스레드와 분리, 큐가 가득 차면 즉시 거절 → 503)
+    @Bean(name = "authExecutor")
+    public Executor authExecutor(
+            @Value("${auth.executor.pool-size}") int poolSize,
+            @Value("${auth.executor.queue-capacity}") int queueCapacity
+    ) {
+        // 0 이면 CPU 코어 수
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("auth-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 이미지 변형본 생성 풀 (큐가 가득 차면 작업을 거절하고 원본을 그대로 서빙)
+    @Bean(name = "imageExecutor")
+    public Executor imageExecutor(
+            @Value("${file.variant-executor.pool-size}") int poolSize,
+            @Value("${file.variant-executor.queue-capacity}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssh.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * ID 시퀀스 정렬
+ * IDENTITY 컬럼으로 쌓인 기존 행보다 시퀀스가 뒤에 있으면 pooled 옵티마이저가 이미 쓰인 ID 를 할당하므로,
+ * 스키마 갱신(ddl-auto) 직후 각 시퀀스를 테이블의 MAX(id) 이상으로 맞춘다. (이미 앞서 있으면 그대로)
+ * likes 는 증가폭 1 시퀀스(like_ids_seq)로 옮겼으므로 이전 likes_seq 로 만든 행 뒤로 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    // 테이블 → 시퀀스 (엔티티의 @SequenceGenerator 와 동일)
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq",
+            "posts", "posts_seq",
+            "comments", "comments_seq",
+            "likes", "like_ids_seq",
+            "follows", "follows_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCES.forEach((table, sequence) -> {
+            Long value = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST(" +
+                            "(SELECT COALESCE(MAX(id), 0) FROM " + table + "), " +
+                            "(SELECT last_value FROM " + sequence + ")))",
+                    Long.class);
+            log.debug("Aligned {} to {}", sequence, value);
+        });
+    }
+}
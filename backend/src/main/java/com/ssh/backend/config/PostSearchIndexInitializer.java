@@ -0,0 +1,71 @@
+package com.ssh.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 검색 인덱스 준비 (posts.search_vector + GIN 인덱스)
+ * search_vector 는 본문 단어(simple 사전) + 해시태그/멘션 토큰(#tag, @user 그대로)으로 구성되고,
+ * 트리거가 INSERT 와 본문 UPDATE 때 다시 계산하므로 게시물 작성/수정 경로(시드 포함)와 항상 일치한다.
+ * 여러 인스턴스가 동시에 시작해도 되도록 트리거는 교체, 인덱스는 CONCURRENTLY 로 없을 때만 만든다.
+ * 컬럼이 없던 기존 게시물은 시작 시 batch 단위로 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class PostSearchIndexInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${search.backfill-batch-size}")
+    private int backfillBatchSize;
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute("ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector");
+
+        // 해시태그/멘션은 소문자로 바꿔 사전을 거치지 않은 lexeme 으로 추가
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION posts_search_vector(content text) RETURNS tsvector " +
+                "LANGUAGE sql IMMUTABLE AS $$ " +
+                "SELECT to_tsvector('simple', content) || COALESCE(" +
+                "  (SELECT array_to_tsvector(array_agg(DISTINCT lower(m[1]))) " +
+                "   FROM regexp_matches(content, '([#@][[:alnum:]_]+)', 'g') AS m), " +
+                "  ''::tsvector) " +
+                "$$");
+        jdbcTemplate.execute("CREATE OR REPLACE FUNCTION posts_search_vector_update() RETURNS trigger " +
+                "LANGUAGE plpgsql AS $$ " +
+                "BEGIN NEW.search_vector := posts_search_vector(NEW.content); RETURN NEW; END " +
+                "$$");
+        // 교체 중에도 트리거가 없는 순간이 없도록 (PostgreSQL 14 이상)
+        jdbcTemplate.execute("CREATE OR REPLACE TRIGGER trg_posts_search_vector " +
+                "BEFORE INSERT OR UPDATE OF content ON posts " +
+                "FOR EACH ROW EXECUTE FUNCTION posts_search_vector_update()");
+
+        // 쓰기를 막지 않고 만듦 (트랜잭션 밖에서 실행), 중단되어 남은 INVALID 인덱스는 지우고 다시 만듦
+        Boolean invalid = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_index i " +
+                "JOIN pg_class c ON c.oid = i.indexrelid " +
+                "WHERE c.relname = 'idx_post_search_vector' AND NOT i.indisvalid)", Boolean.class);
+        if (Boolean.TRUE.equals(invalid)) {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS idx_post_search_vector");
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_search_vector " +
+                "ON posts USING GIN (search_vector)");
+
+        long filled = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update("UPDATE posts SET search_vector = posts_search_vector(content) " +
+                    "WHERE id IN (SELECT id FROM posts WHERE search_vector IS NULL LIMIT ?)", backfillBatchSize);
+            filled += updated;
+        } while (updated > 0);
+        if (filled > 0) {
+            log.info("Backfilled search vectors for {} posts", filled);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.ssh.backend.config;
+
+import com.ssh.backend.entity.AuthProvider;
+import com.ssh.backend.entity.Follow;
+import com.ssh.backend.entity.Post;
+import com.ssh.backend.entity.User;
+import com.ssh.backend.service.FollowGraphService;
+import com.ssh.backend.service.UserTypeaheadService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 부하 테스트용 대량 시드 데이터 (--spring.profiles.active=seed)
+ * 사용자 → 팔로우 → 게시물 순으로 persist 하고, 시퀀스 ID 와 hibernate.jdbc.batch_size 덕분에
+ * batch-size 개씩 묶인 배치 insert 로 들어간다. 카운터와 타임라인은 마지막에 집계 쿼리로 한 번에 채운다.
+ *
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=seed --seed.users=10000 --seed.posts-per-user=20'
+ * </pre>
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class SeedDataRunner implements ApplicationRunner {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserTypeaheadService userTypeaheadService;
+    private final FollowGraphService followGraphService;
+
+    @Value("${seed.users}")
+    private int userCount;
+
+    @Value("${seed.posts-per-user}")
+    private int postsPerUser;
+
+    @Value("${seed.follows-per-user}")
+    private int followsPerUser;
+
+    // 모든 시드 사용자의 비밀번호 (로그인 부하 테스트용)
+    @Value("${seed.password}")
+    private String password;
+
+    // 트랜잭션 하나에 넣을 엔티티 수
+    @Value("${seed.chunk-size}")
+    private int chunkSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String prefix = "seed" + Long.toString(System.currentTimeMillis(), 36) + "_";
+        String encodedPassword = passwordEncoder.encode(password);
+        Random random = new Random();
+
+        long start = System.nanoTime();
+        List<Long> userIds = persistAll(userCount, i -> User.builder()
+                .username(prefix + i)
+                .email(prefix + i + "@seed.local")
+                .password(encodedPassword)
+                .fullName("Seed User " + i)
+                .provider(AuthProvider.LOCAL)
+                .build(), User::getId);
+        logRate("users", userIds.size(), start);
+        log.info("Seed usernames: {}0 .. {}{} (loadtest.username={}%d)", prefix, prefix, userCount - 1, prefix);
+
+        // 사용자마다 자신을 제외한 연속 구간(무작위 시작점)을 팔로우 → 중복 없음
+        int follows = Math.max(0, Math.min(followsPerUser, userIds.size() - 1));
+        int[] starts = random.ints(userIds.size(), 0, Math.max(1, userIds.size() - 1)).toArray();
+        start = System.nanoTime();
+        List<Long> followIds = persistAll(userIds.size() * follows, i -> {
+            int follower = i / follows;
+            int offset = 1 + (starts[follower] + i % follows) % (userIds.size() - 1);
+            return Follow.builder()
+                    .follower(entityManager.getReference(User.class, userIds.get(follower)))
+                    .following(entityManager.getReference(User.class, userIds.get((follower + offset) % userIds.size())))
+                    .build();
+        }, Follow::getId);
+        logRate("follows", followIds.size(), start);
+
+        start = System.nanoTime();
+        List<Long> postIds = persistAll(userIds.size() * postsPerUser, i -> Post.builder()
+                .content("Seed post " + i)
+                .user(entityManager.getReference(User.class, userIds.get(i / postsPerUser)))
+                .build(), Post::getId);
+        logRate("posts", postIds.size(), start);
+
+        if (userIds.isEmpty()) {
+            return;
+        }
+        start = System.nanoTime();
+        refreshCountersAndTimelines(userIds, postIds);
+        userTypeaheadService.load();
+        followGraphService.load();
+        log.info("Seeded counters and timelines in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // chunk-size 개씩 트랜잭션을 나누고, 그 안에서 batch-size 마다 flush/clear (영속성 컨텍스트가 커지지 않게)
+    private <T> List<Long> persistAll(int count, IntFunction<T> factory, Function<T, Long> idOf) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += chunkSize) {
+            int to = Math.min(count, from + chunkSize);
+            int chunkStart = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = chunkStart; i < to; i++) {
+                    T entity = factory.apply(i);
+                    entityManager.persist(entity);
+                    ids.add(idOf.apply(entity));
+                    if ((i - chunkStart + 1) % batchSize == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            });
+        }
+        return ids;
+    }
+
+    private void refreshCountersAndTimelines(List<Long> userIds, List<Long> postIds) {
+        long minUserId = userIds.stream().mapToLong(Long::longValue).min().orElseThrow();
+        long maxUserId = userIds.stream().mapToLong(Long::longValue).max().orElseThrow();
+
+        jdbcTemplate.update("UPDATE users u SET " +
+                "followers_count = (SELECT count(*) FROM follows f WHERE f.following_id = u.id), " +
+                "following_count = (SELECT count(*) FROM follows f WHERE f.follower_id = u.id) " +
+                "WHERE u.id BETWEEN ? AND ?", minUserId, maxUserId);
+
+        if (postIds.isEmpty()) {
+            return;
+        }
+        long minPostId = postIds.stream().mapToLong(Long::longValue).min().orElseThrow();
+        long maxPostId = postIds.stream().mapToLong(Long::longValue).max().orElseThrow();
+
+        // 시드 게시물은 이벤트 fan-out 을 거치지 않으므로 작성자 + 팔로워 타임라인을 직접 채움
+        jdbcTemplate.update("INSERT INTO timeline_entries (user_id, post_id, author_id, created_at) " +
+                "SELECT p.user_id, p.id, p.user_id, p.created_at FROM posts p WHERE p.id BETWEEN ? AND ? " +
+                "UNION ALL " +
+                "SELECT f.follower_id, p.id, p.user_id, p.created_at FROM posts p " +
+                "JOIN follows f ON f.following_id = p.user_id WHERE p.id BETWEEN ? AND ? " +
+                "ON CONFLICT DO NOTHING", minPostId, maxPostId, minPostId, maxPostId);
+    }
+
+    private void logRate(String what, int count, long startNanos) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("Seeded {} {} in {} ms ({} rows/s)", count, what, elapsedMillis, count * 1000L / elapsedMillis);
+    }
+}
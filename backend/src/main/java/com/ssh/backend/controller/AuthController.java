@@ -3,36 +3,66 @@ package com.ssh.backend.controller;
 import com.ssh.backend.dto.AuthRequest;
 import com.ssh.backend.dto.AuthResponse;
 import com.ssh.backend.dto.RegisterRequest;
+import com.ssh.backend.exception.ServiceUnavailableException;
+import com.ssh.backend.security.TokenRevocationService;
 import com.ssh.backend.service.AuthService;
+import com.ssh.backend.service.AuthenticationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthenticationService authenticationService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // BCrypt 연산은 전용 풀에서 실행 (Tomcat 요청 스레드는 즉시 반환)
+    @Qualifier("authExecutor")
+    private final Executor authExecutor;
 
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(
+    public CompletableFuture<ResponseEntity<AuthResponse>> register(
             @Valid @RequestBody RegisterRequest request
     ) {
-        AuthResponse response = authService.register(request);
-        return ResponseEntity.ok(response);
+        return offload(() -> ResponseEntity.ok(authService.register(request)));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(
             @Valid @RequestBody AuthRequest request
     ) {
-        AuthResponse response = authService.login(request);
-        return ResponseEntity.ok(response);
+        return offload(() -> ResponseEntity.ok(authService.login(request)));
+    }
+
+    /**
+     * 현재 사용자의 기존 토큰 전부 폐기
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout() {
+        tokenRevocationService.revokeAll(authenticationService.getCurrentUserId());
+        return ResponseEntity.noContent().build();
+    }
+
+    private <T> CompletableFuture<T> offload(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, authExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("요청이 많습니다. 잠시 후 다시 시도해주세요", e);
+        }
     }
 }
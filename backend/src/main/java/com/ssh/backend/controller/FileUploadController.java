@@ -1,34 +1,28 @@
 package com.ssh.backend.controller;
 
-import com.ssh.backend.exception.ResourceNotFoundException;
 import com.ssh.backend.service.FileUploadService;
+import com.ssh.backend.service.ImageVariantService;
+import com.ssh.backend.service.StaticFileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Map;
-import java.util.ResourceBundle;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/upload")
 @RequiredArgsConstructor
 public class FileUploadController {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
-
-
-
     private final FileUploadService fileUploadService;
+    private final ImageVariantService imageVariantService;
+    private final StaticFileService staticFileService;
 
 
     /**
@@ -42,29 +36,39 @@ public class FileUploadController {
         return ResponseEntity.ok(Map.of("imageUrl", fileUrl));
     }
 
+    /**
+     * 프로필 이미지 업로드 (요청 본문 = 이미지 바이트)
+     * multipart 파싱 없이 스트리밍으로 받아 비이미지/초과 크기는 전송 도중 거절
+     */
+    @PostMapping("/profile-image/raw")
+    public ResponseEntity<Map<String, String>> uploadProfileImageRaw(HttpServletRequest request) throws IOException {
+        String fileUrl = fileUploadService.uploadProfileImage(request.getInputStream(), request.getContentLengthLong());
+        return ResponseEntity.ok(Map.of("imageUrl", fileUrl));
+    }
+
 
 
     /**
      * 업로드된 이미지 서빙
      */
     @GetMapping("/profiles/{filename:.+}")
-    public ResponseEntity<Resource> serveFile(@PathVariable String filename) throws IOException {
-        Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
-
-        Resource resource = new UrlResource(filePath.toUri());
-
-        if (!resource.exists()) {
-            throw new ResourceNotFoundException("파일을 찾을 수 없습니다");
-        }
-
-        // Content-Type 자동 감지
-        String contentType = Files.probeContentType(filePath);
-        if (contentType == null) {
-            contentType = "application/octet-stream";
+    public void serveFile(
+            @PathVariable String filename,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        boolean immutable = true;
+
+        // ?size= 가 있으면 해당 크기 이상의 가장 작은 변형본 (아직 생성 전이면 원본)
+        if (size != null) {
+            boolean acceptWebp = accept != null && accept.contains("image/webp");
+            Optional<String> variant = imageVariantService.resolveVariant(filename, size, acceptWebp);
+            immutable = variant.isPresent();
+            filename = variant.orElse(filename);
         }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .body(resource);
+        staticFileService.serve(filename, immutable, request, response);
     }
 }
@@ -1,6 +1,7 @@
 package com.ssh.backend.controller;
 
 import com.ssh.backend.dto.FollowResponse;
+import com.ssh.backend.dto.FollowedByResponse;
 import com.ssh.backend.dto.UserResponse;
 import com.ssh.backend.service.FollowService;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,22 @@ public class FollowController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 팔로우 설정 (멱등)
+     */
+    @PutMapping("/{userId}/follow")
+    public ResponseEntity<FollowResponse> follow(@PathVariable Long userId) {
+        return ResponseEntity.ok(followService.follow(userId));
+    }
+
+    /**
+     * 팔로우 해제 (멱등)
+     */
+    @DeleteMapping("/{userId}/follow")
+    public ResponseEntity<FollowResponse> unfollow(@PathVariable Long userId) {
+        return ResponseEntity.ok(followService.unfollow(userId));
+    }
+
     @GetMapping("/{userId}/follow-status")
     public ResponseEntity<FollowResponse> getFollowStatus(@PathVariable Long userId) {
         FollowResponse response = followService.getFollowStatus(userId);
@@ -48,7 +65,18 @@ public class FollowController {
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
 
-        Page<UserResponse> following = followService.getFollowers(userId, pageable);
+        Page<UserResponse> following = followService.getFollowing(userId, pageable);
         return ResponseEntity.ok(following);
     }
+
+    /**
+     * 내가 팔로우하는 사람 중 이 사용자를 팔로우하는 사람
+     */
+    @GetMapping("/{userId}/followed-by")
+    public ResponseEntity<FollowedByResponse> getFollowedBy(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "3") int limit
+    ) {
+        return ResponseEntity.ok(followService.getFollowedBy(userId, limit));
+    }
 }
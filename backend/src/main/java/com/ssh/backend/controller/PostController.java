@@ -1,15 +1,21 @@
 package com.ssh.backend.controller;
 
+import com.ssh.backend.dto.CursorPageResponse;
+import com.ssh.backend.dto.LikeResponse;
 import com.ssh.backend.dto.PostRequest;
 import com.ssh.backend.dto.PostResponse;
 import com.ssh.backend.entity.Post;
+import com.ssh.backend.service.FeedPageCache;
 import com.ssh.backend.service.LikeService;
+import com.ssh.backend.service.PostSearchService;
 import com.ssh.backend.service.PostService;
+import com.ssh.backend.service.TimelineService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +28,9 @@ public class PostController {
 
     private final PostService postService;
     private final LikeService likeService;
+    private final TimelineService timelineService;
+    private final PostSearchService postSearchService;
+    private final FeedPageCache feedPageCache;
 
 
     @PostMapping
@@ -32,10 +41,17 @@ public class PostController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<PostResponse>> getPosts(
+    public ResponseEntity<?> getPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
+        // 첫 페이지는 미리 직렬화된 응답에 좋아요 여부만 덧씌워 반환
+        if (feedPageCache.supports(page, size)) {
+            byte[] body = feedPageCache.firstPage(size);
+            if (body != null) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+            }
+        }
         Pageable pageable = PageRequest.of(page, size);
         Page<PostResponse> posts = postService.getPosts(pageable);
         return ResponseEntity.ok(posts);
@@ -52,6 +68,47 @@ public class PostController {
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping("/home")
+    public ResponseEntity<CursorPageResponse<PostResponse>> getHomeTimeline(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorPageResponse<PostResponse> posts = timelineService.getHomeTimeline(cursor, size);
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<PostResponse>> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorPageResponse<PostResponse> posts = postService.getPostsByCursor(cursor, size);
+        return ResponseEntity.ok(posts);
+    }
+
+    /**
+     * 게시물 검색 (단어 + #해시태그/@멘션, 관련도순 커서 페이징)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<PostResponse>> searchPosts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorPageResponse<PostResponse> posts = postSearchService.search(query, cursor, size);
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<CursorPageResponse<PostResponse>> getUserPostsByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        CursorPageResponse<PostResponse> posts = postService.getUserPostsByCursor(userId, cursor, size);
+        return ResponseEntity.ok(posts);
+    }
+
     @GetMapping("/user/{userId}/count")
     public ResponseEntity<Map<String, Long>> getUserPostCount(@PathVariable Long userId) {
         Long count = postService.getUserPostCount(userId);
@@ -77,12 +134,29 @@ public class PostController {
 
     @PostMapping("/{postId}/like")
     public ResponseEntity<?> toggleLike(@PathVariable Long postId) {
-        boolean isLiked = likeService.toggleLike(postId);
-        Long likeCount = likeService.getLikeCount(postId);
+        return toLikeBody(likeService.toggleLike(postId));
+    }
+
+    /**
+     * 좋아요 설정 (멱등)
+     */
+    @PutMapping("/{postId}/like")
+    public ResponseEntity<?> like(@PathVariable Long postId) {
+        return toLikeBody(likeService.like(postId));
+    }
+
+    /**
+     * 좋아요 해제 (멱등)
+     */
+    @DeleteMapping("/{postId}/like")
+    public ResponseEntity<?> unlike(@PathVariable Long postId) {
+        return toLikeBody(likeService.unlike(postId));
+    }
 
+    private ResponseEntity<?> toLikeBody(LikeResponse response) {
         return ResponseEntity.ok().body(Map.of(
-                "isLiked", isLiked,
-                "likeCount", likeCount)
+                "isLiked", response.isLiked(),
+                "likeCount", response.getLikeCount())
         );
     }
 
@@ -2,15 +2,19 @@ package com.ssh.backend.controller;
 
 import com.ssh.backend.dto.UpdateProfileRequest;
 import com.ssh.backend.dto.UserResponse;
-import com.ssh.backend.entity.User;
+import com.ssh.backend.dto.UserSuggestion;
 import com.ssh.backend.service.FileUploadService;
 import com.ssh.backend.service.UserService;
+import com.ssh.backend.service.UserTypeaheadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,6 +24,18 @@ public class UserController {
 
     private final UserService userService;
     private final FileUploadService fileUploadService;
+    private final UserTypeaheadService userTypeaheadService;
+
+    /**
+     * 사용자 자동완성 (username/이름 접두사, 팔로워 수 순)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSuggestion>> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(userTypeaheadService.search(query, limit));
+    }
 
     @GetMapping("/{userId}")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long userId) {
@@ -30,7 +46,7 @@ public class UserController {
     @PutMapping("/profile")
     public ResponseEntity<UserResponse> updateProfile(
             @RequestBody UpdateProfileRequest request,
-            User user
+            @AuthenticationPrincipal UserDetails user
     ) {
         UserResponse response = userService.updateProfile(request, user.getUsername());
         return ResponseEntity.ok(response);
@@ -0,0 +1,41 @@
+package com.ssh.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 (총 개수 없이 다음 커서만 전달)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    // 요청 size 상한 (피드/타임라인/검색 공통)
+    public static final int MAX_SIZE = 50;
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorPageResponse<T> of(Slice<T> slice, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .content(slice.getContent())
+                .nextCursor(slice.hasNext() ? nextCursor : null)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * 요청 size 를 1 ~ MAX_SIZE 로 제한 (0 이하면 PageRequest/LIMIT 오류, 상한 없으면 한 번에 과도한 조회)
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssh.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 내가 팔로우하는 사람 중 대상 사용자를 팔로우하는 사람 ("OO님 외 N명이 팔로우합니다")
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FollowedByResponse {
+    private int count;
+    private List<UserResponse> users;
+}
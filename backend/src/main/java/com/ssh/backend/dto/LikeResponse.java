@@ -0,0 +1,17 @@
+package com.ssh.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LikeResponse {
+
+    private boolean isLiked;
+
+    private Long likeCount;
+}
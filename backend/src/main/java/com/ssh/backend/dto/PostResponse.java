@@ -33,6 +33,8 @@ public class PostResponse {
                 .user(UserDto.fromEntity(post.getUser()))
                 .createAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
                 .build();
 
     }
@@ -0,0 +1,38 @@
+package com.ssh.backend.dto;
+
+import com.ssh.backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 커서 (rank, id, maxId)
+ * rank 는 DB 의 real 값을 그대로 왕복시켜야 하므로 float 문자열로 인코딩한다.
+ * maxId 는 첫 페이지 조회 시점의 최대 게시물 ID 로, 이후 페이지도 같은 후보 범위에서 순위를 매기게 한다.
+ * (새 게시물이 후보 창을 밀어 페이지 사이에 결과가 빠지거나 겹치지 않도록)
+ */
+public record SearchCursor(float rank, Long id, long maxId) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id + SEPARATOR + maxId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            return new SearchCursor(
+                    Float.parseFloat(parts[0]),
+                    Long.parseLong(parts[1]),
+                    // maxId 가 없는 이전 커서는 범위 제한 없음
+                    parts.length > 2 ? Long.parseLong(parts[2]) : Long.MAX_VALUE
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+}
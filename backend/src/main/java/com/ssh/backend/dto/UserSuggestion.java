@@ -0,0 +1,21 @@
+package com.ssh.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 검색 자동완성 항목 (멘션 자동완성 등)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSuggestion {
+    private Long id;
+    private String username;
+    private String fullName;
+    private String profileImageUrl;
+    private long followersCount;
+}
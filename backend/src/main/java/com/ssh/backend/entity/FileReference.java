@@ -0,0 +1,40 @@
+package com.ssh.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 파일의 사용자별 참조
+ * 업로드한 사용자만 참조를 가지며, 해제도 자신이 가진 참조만 할 수 있다.
+ * 프로필에 연결되지 않은 채 file.unattached-ttl 이 지난 참조는 주기적으로 해제한다.
+ */
+@Entity
+@Table(name = "file_references",
+        indexes = {
+                @Index(name = "idx_file_reference_attached_created", columnList = "attached, created_at"),
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileReference {
+
+    @EmbeddedId
+    private FileReferenceId id;
+
+    // 프로필 이미지로 연결되었는지
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean attached;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
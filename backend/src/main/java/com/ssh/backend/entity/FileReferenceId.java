@@ -0,0 +1,24 @@
+package com.ssh.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileReferenceId implements Serializable {
+
+    // 저장 파일명 ({uuid}.{ext} 또는 {sha256}.{ext})
+    @Column(length = 80)
+    private String filename;
+
+    // 업로드한 사용자
+    @Column(name = "user_id")
+    private Long userId;
+}
@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Follow {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "follow_seq")
+    @SequenceGenerator(name = "follow_seq", sequenceName = "follows_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
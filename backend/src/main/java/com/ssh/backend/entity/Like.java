@@ -20,7 +20,10 @@ import java.time.LocalDateTime;
 public class Like {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 좋아요 행은 네이티브 SQL(LikeRepository, LikeWriteBehindBuffer)로만 넣으므로 nextval 한 번에 ID 하나
+    // (증가폭 50 인 pooled 시퀀스를 쓰면 행마다 50개 블록을 통째로 소비)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "like_seq")
+    @SequenceGenerator(name = "like_seq", sequenceName = "like_ids_seq", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
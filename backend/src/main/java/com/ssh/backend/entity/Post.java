@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,6 +19,8 @@ import java.util.Set;
                 @Index(name = "idx_post_user_id", columnList = "user_id"),
                 @Index(name = "idx_post_created_at", columnList = "created_at"),
                 @Index(name = "idx_post_user_created_deleted", columnList = "user_id, created_at, is_deleted"),
+                @Index(name = "idx_post_created_id", columnList = "created_at, id"),
+                @Index(name = "idx_post_user_created_id", columnList = "user_id, created_at, id"),
         })
 @Data
 @Builder
@@ -26,7 +29,8 @@ import java.util.Set;
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "posts_seq", allocationSize = 50)
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -39,7 +43,17 @@ public class Post {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-   
+    // 좋아요/댓글 수 (비정규화 카운터, 원자적 UPDATE 로만 증감)
+    // updatable = false: 엔티티 저장이 읽어 둔 값으로 덮어써 동시 증감을 잃지 않도록
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long likeCount = 0L;
+
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long commentCount = 0L;
 
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
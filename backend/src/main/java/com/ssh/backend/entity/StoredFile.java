@@ -0,0 +1,38 @@
+package com.ssh.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소(content-addressed) 저장 파일의 참조 수
+ * 파일명이 SHA-256 이라 같은 이미지를 여러 번 올려도 한 번만 저장하고, ref_count 는 참조를 가진 사용자 수(file_references 행 수)다.
+ */
+@Entity
+@Table(name = "stored_files")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredFile {
+
+    // {sha256}.{ext}
+    @Id
+    @Column(length = 80)
+    private String filename;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(nullable = false)
+    private long size;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.ssh.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 타임라인 항목 (fan-out-on-write)
+ * 게시물 작성 시 팔로워별로 post_id 를 미리 밀어 넣어 두고, 홈 피드는 이 테이블만 읽는다.
+ */
+@Entity
+@Table(name = "timeline_entries",
+        indexes = {
+                @Index(name = "idx_timeline_user_created_post", columnList = "user_id, created_at, post_id"),
+                @Index(name = "idx_timeline_post_id", columnList = "post_id"),
+                @Index(name = "idx_timeline_user_author", columnList = "user_id, author_id"),
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineEntry {
+
+    @EmbeddedId
+    private TimelineEntryId id;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    // 게시물 작성 시각 (정렬 키)
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
@@ -29,7 +30,9 @@ import java.util.Set;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스 + pooled 옵티마이저 (50개씩 미리 할당 → JDBC 배치 insert 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -67,6 +70,24 @@ public class User implements UserDetails {
     // 계정 활성화 여부
     private boolean enabled;
 
+    // 팔로워/팔로잉 수 (비정규화 카운터, 원자적 UPDATE 로만 증감)
+    // updatable = false: 프로필 수정/재해시/OAuth 로그인 저장이 읽어 둔 값으로 덮어쓰지 않도록
+    @Column(name = "followers_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long followersCount = 0L;
+
+    @Column(name = "following_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long followingCount = 0L;
+
+    // 팔로워가 fanout-threshold 를 넘은 적이 있는 작성자 (한 번 켜지면 유지, 이후 게시물은 조회 시점에 pull)
+    // UserRepository.markPullTimeline(s) 로만 설정
+    @Column(name = "pull_timeline", nullable = false, updatable = false)
+    @ColumnDefault("false")
+    @Builder.Default
+    private boolean pullTimeline = false;
 
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     @Builder.Default
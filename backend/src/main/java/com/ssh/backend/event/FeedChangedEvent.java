@@ -0,0 +1,12 @@
+package com.ssh.backend.event;
+
+/**
+ * 피드에 보이는 게시물 데이터 변경 이벤트 (수정/삭제/좋아요·댓글 수/작성자 정보)
+ * postId 가 null 이면 특정 게시물로 한정할 수 없는 변경 (캐시 전체 무효화)
+ */
+public record FeedChangedEvent(Long postId) {
+
+    public static FeedChangedEvent all() {
+        return new FeedChangedEvent(null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssh.backend.event;
+
+/**
+ * 업로드 파일의 마지막 참조 해제 이벤트 (커밋 후 원본/변형본 삭제)
+ */
+public record FileReleasedEvent(String filename) {
+}
@@ -0,0 +1,8 @@
+package com.ssh.backend.event;
+
+/**
+ * 팔로우 관계 변경 이벤트 (실제로 행이 추가/삭제된 경우에만 발행)
+ * followersCount 는 변경 후 followingId 사용자의 팔로워 수
+ */
+public record FollowChangedEvent(Long followerId, Long followingId, boolean following, long followersCount) {
+}
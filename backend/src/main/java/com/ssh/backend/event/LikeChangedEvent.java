@@ -0,0 +1,7 @@
+package com.ssh.backend.event;
+
+/**
+ * 좋아요 상태 변경 이벤트 (실제로 상태가 바뀐 경우에만 발행, 좋아요 집합 캐시 갱신, 피드 캐시 무효화)
+ */
+public record LikeChangedEvent(Long userId, Long postId, boolean liked) {
+}
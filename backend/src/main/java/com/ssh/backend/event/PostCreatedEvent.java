@@ -0,0 +1,9 @@
+package com.ssh.backend.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 생성 이벤트 (타임라인 fan-out 트리거)
+ */
+public record PostCreatedEvent(Long postId, Long authorId, LocalDateTime createdAt) {
+}
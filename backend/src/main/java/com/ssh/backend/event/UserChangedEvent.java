@@ -0,0 +1,15 @@
+package com.ssh.backend.event;
+
+import com.ssh.backend.entity.User;
+
+/**
+ * 사용자 가입/프로필 변경 이벤트 (커밋 후 검색 색인 갱신)
+ */
+public record UserChangedEvent(Long userId, String username, String fullName, String profileImageUrl,
+                               long followersCount) {
+
+    public static UserChangedEvent of(User user) {
+        return new UserChangedEvent(user.getId(), user.getUsername(), user.getFullName(),
+                user.getProfileImageUrl(), user.getFollowersCount());
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssh.backend.repository;
+
+import com.ssh.backend.entity.FileReference;
+import com.ssh.backend.entity.FileReferenceId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileReferenceRepository extends JpaRepository<FileReference, FileReferenceId> {
+
+    /**
+     * 참조 추가 (이미 가진 참조면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO file_references (filename, user_id, attached, created_at) " +
+            "VALUES (:filename, :userId, false, now()) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insert(@Param("filename") String filename, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE FileReference r SET r.attached = true " +
+            "WHERE r.id.filename = :filename AND r.id.userId = :userId")
+    int attach(@Param("filename") String filename, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM FileReference r WHERE r.id.filename = :filename AND r.id.userId = :userId")
+    int delete(@Param("filename") String filename, @Param("userId") Long userId);
+
+    /**
+     * 연결되지 않은 참조만 삭제 (정리 도중 프로필에 연결된 참조는 유지)
+     */
+    @Modifying
+    @Query("DELETE FROM FileReference r " +
+            "WHERE r.id.filename = :filename AND r.id.userId = :userId AND r.attached = false")
+    int deleteUnattached(@Param("filename") String filename, @Param("userId") Long userId);
+
+    @Query("SELECT r.id FROM FileReference r WHERE r.attached = false AND r.createdAt < :cutoff")
+    List<FileReferenceId> findUnattachedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    boolean existsById_Filename(String filename);
+}
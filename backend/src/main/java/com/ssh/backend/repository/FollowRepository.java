@@ -9,12 +9,117 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 
 @Repository
 public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     boolean existsByFollowerAndFollowing(User follower, User following);
 
+    boolean existsByFollower_IdAndFollowing_Id(Long followerId, Long followingId);
+
+    /**
+     * 팔로우 설정/해제 결과 (대상 사용자의 카운터, 이번 요청으로 상태가 바뀌었는지)
+     */
+    interface FollowChange {
+        boolean getChanged();
+
+        long getFollowersCount();
+
+        long getFollowingCount();
+    }
+
+    /**
+     * 팔로우 설정 (이미 있으면 무시) + 양쪽 카운터 증가를 한 문장으로 실행
+     * 대상 사용자가 없으면 empty
+     * follows_seq 는 시드의 JPA 배치 insert 용 pooled 시퀀스(증가폭 50)라 여기서의 nextval 한 번은 ID 블록 하나를 소비한다.
+     * (사용자 동작당 한 번이라 bigint 범위에서 문제 되지 않음, 충돌은 없음)
+     */
+    @Query(value = "WITH ins AS (" +
+            "  INSERT INTO follows (id, follower_id, following_id, created_at) " +
+            "  SELECT nextval('follows_seq'), :followerId, u.id, now() FROM users u WHERE u.id = :followingId " +
+            "  ON CONFLICT (follower_id, following_id) DO NOTHING RETURNING following_id" +
+            "), target AS (" +
+            "  UPDATE users SET followers_count = followers_count + 1 " +
+            "  WHERE id IN (SELECT following_id FROM ins) RETURNING followers_count" +
+            "), me AS (" +
+            "  UPDATE users SET following_count = following_count + 1 " +
+            "  WHERE id = :followerId AND EXISTS (SELECT 1 FROM ins) RETURNING id" +
+            ") " +
+            "SELECT EXISTS (SELECT 1 FROM ins) AS \"changed\", " +
+            "  COALESCE((SELECT followers_count FROM target), u.followers_count) AS \"followersCount\", " +
+            "  u.following_count AS \"followingCount\" " +
+            "FROM users u WHERE u.id = :followingId",
+            nativeQuery = true)
+    Optional<FollowChange> follow(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    /**
+     * 팔로우 해제 (없으면 무시) + 양쪽 카운터 감소를 한 문장으로 실행
+     * 대상 사용자가 없으면 empty
+     */
+    @Query(value = "WITH del AS (" +
+            "  DELETE FROM follows WHERE follower_id = :followerId AND following_id = :followingId " +
+            "  RETURNING following_id" +
+            "), target AS (" +
+            "  UPDATE users SET followers_count = followers_count - 1 " +
+            "  WHERE id IN (SELECT following_id FROM del) RETURNING followers_count" +
+            "), me AS (" +
+            "  UPDATE users SET following_count = following_count - 1 " +
+            "  WHERE id = :followerId AND EXISTS (SELECT 1 FROM del) RETURNING id" +
+            ") " +
+            "SELECT EXISTS (SELECT 1 FROM del) AS \"changed\", " +
+            "  COALESCE((SELECT followers_count FROM target), u.followers_count) AS \"followersCount\", " +
+            "  u.following_count AS \"followingCount\" " +
+            "FROM users u WHERE u.id = :followingId",
+            nativeQuery = true)
+    Optional<FollowChange> unfollow(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    /**
+     * 팔로우 토글 결과 (FollowChange + 결과 팔로우 여부)
+     */
+    interface FollowToggle extends FollowChange {
+        boolean getFollowing();
+    }
+
+    /**
+     * 팔로우 토글: 관계가 있으면 삭제, 없으면 추가 (ON CONFLICT 무시) + 양쪽 카운터 증감을 한 문장으로 실행
+     * 동시에 다른 요청이 추가해 충돌하면 바뀌지 않고 팔로우 상태로 응답한다. 대상 사용자가 없으면 empty
+     */
+    @Query(value = "WITH del AS (" +
+            "  DELETE FROM follows WHERE follower_id = :followerId AND following_id = :followingId " +
+            "  RETURNING following_id" +
+            "), ins AS (" +
+            "  INSERT INTO follows (id, follower_id, following_id, created_at) " +
+            "  SELECT nextval('follows_seq'), :followerId, u.id, now() FROM users u " +
+            "  WHERE u.id = :followingId AND NOT EXISTS (SELECT 1 FROM del) " +
+            "  ON CONFLICT (follower_id, following_id) DO NOTHING RETURNING following_id" +
+            "), delta AS (" +
+            "  SELECT (SELECT COUNT(*) FROM ins) - (SELECT COUNT(*) FROM del) AS d" +
+            "), target AS (" +
+            "  UPDATE users SET followers_count = followers_count + (SELECT d FROM delta) " +
+            "  WHERE id = :followingId AND (SELECT d FROM delta) <> 0 RETURNING followers_count" +
+            "), me AS (" +
+            "  UPDATE users SET following_count = following_count + (SELECT d FROM delta) " +
+            "  WHERE id = :followerId AND (SELECT d FROM delta) <> 0 RETURNING id" +
+            ") " +
+            "SELECT (SELECT d FROM delta) <> 0 AS \"changed\", " +
+            "  NOT EXISTS (SELECT 1 FROM del) AS \"following\", " +
+            "  COALESCE((SELECT followers_count FROM target), u.followers_count) AS \"followersCount\", " +
+            "  u.following_count AS \"followingCount\" " +
+            "FROM users u WHERE u.id = :followingId",
+            nativeQuery = true)
+    Optional<FollowToggle> toggle(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    /**
+     * 주어진 사용자 중 followerId 가 팔로우하는 사용자 ID (목록의 팔로우 여부를 IN 조회 한 번으로)
+     */
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id IN :userIds")
+    List<Long> findFollowingIdsAmong(@Param("followerId") Long followerId,
+                                     @Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT COUNT(f) FROM Follow f WHERE f.following = :user")
     Long countFollowers(@Param("user") User user);
 
@@ -28,4 +133,21 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     Page<User> findFollowing(@Param("user") User user, Pageable pageable);
 
     void deleteByFollowerAndFollowing(User follower, User following);
+
+    /**
+     * 팔로워 ID 를 follower_id 순으로 배치 조회 (타임라인 fan-out 용)
+     */
+    @Query("SELECT f.follower.id FROM Follow f " +
+            "WHERE f.following.id = :userId AND f.follower.id > :afterId " +
+            "ORDER BY f.follower.id")
+    List<Long> findFollowerIdsAfter(@Param("userId") Long userId,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    /**
+     * pull 작성자로 표시된 팔로잉 계정 (홈 피드 조회 시 pull 대상)
+     */
+    @Query("SELECT f.following.id FROM Follow f " +
+            "WHERE f.follower.id = :userId AND f.following.pullTimeline = true")
+    List<Long> findPullFollowingIds(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -3,17 +3,105 @@ package com.ssh.backend.repository;
 import com.ssh.backend.entity.Like;
 import com.ssh.backend.entity.Post;
 import com.ssh.backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
     @Query("SELECT COUNT(l) FROM Like l WHERE l.post.id = :postId")
     Long countByPostId(@Param("postId") Long postId);
 
+    /**
+     * 주어진 게시물 중 사용자가 좋아요한 게시물 ID 목록
+     */
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 사용자가 좋아요한 게시물 ID 전체 (좋아요 집합 캐시 적재용, pageable 로 상한 지정)
+     */
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
     boolean existsByUserAndPost(User user, Post post);
 
+    boolean existsByUser_IdAndPost_Id(Long userId, Long postId);
+
+    /**
+     * 좋아요 설정/해제/토글 결과 (이번 요청으로 상태가 바뀌었는지, 결과 상태, 결과 좋아요 수)
+     */
+    interface LikeChange {
+        boolean getChanged();
+
+        boolean getLiked();
+
+        long getLikeCount();
+    }
+
+    /**
+     * 좋아요 설정 (이미 있으면 무시) + 카운터 증가를 한 문장으로 실행
+     * 게시물이 없으면 empty
+     */
+    @Query(value = "WITH ins AS (" +
+            "  INSERT INTO likes (id, user_id, post_id, created_at) " +
+            "  SELECT nextval('like_ids_seq'), :userId, p.id, now() FROM posts p WHERE p.id = :postId " +
+            "  ON CONFLICT (user_id, post_id) DO NOTHING RETURNING post_id" +
+            "), upd AS (" +
+            "  UPDATE posts SET like_count = like_count + 1 " +
+            "  WHERE id IN (SELECT post_id FROM ins) RETURNING like_count" +
+            ") " +
+            "SELECT EXISTS (SELECT 1 FROM ins) AS \"changed\", true AS \"liked\", " +
+            "  COALESCE((SELECT like_count FROM upd), p.like_count) AS \"likeCount\" " +
+            "FROM posts p WHERE p.id = :postId",
+            nativeQuery = true)
+    Optional<LikeChange> like(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 해제 (없으면 무시) + 카운터 감소를 한 문장으로 실행
+     * 게시물이 없으면 empty
+     */
+    @Query(value = "WITH del AS (" +
+            "  DELETE FROM likes WHERE user_id = :userId AND post_id = :postId RETURNING post_id" +
+            "), upd AS (" +
+            "  UPDATE posts SET like_count = like_count - 1 " +
+            "  WHERE id IN (SELECT post_id FROM del) RETURNING like_count" +
+            ") " +
+            "SELECT EXISTS (SELECT 1 FROM del) AS \"changed\", false AS \"liked\", " +
+            "  COALESCE((SELECT like_count FROM upd), p.like_count) AS \"likeCount\" " +
+            "FROM posts p WHERE p.id = :postId",
+            nativeQuery = true)
+    Optional<LikeChange> unlike(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요 토글: 있으면 삭제, 없으면 추가 (ON CONFLICT 무시) + 카운터 증감을 한 문장으로 실행
+     * 동시에 다른 요청이 추가해 충돌하면 바뀌지 않고 좋아요 상태로 응답한다. 게시물이 없으면 empty
+     */
+    @Query(value = "WITH del AS (" +
+            "  DELETE FROM likes WHERE user_id = :userId AND post_id = :postId RETURNING post_id" +
+            "), ins AS (" +
+            "  INSERT INTO likes (id, user_id, post_id, created_at) " +
+            "  SELECT nextval('like_ids_seq'), :userId, p.id, now() FROM posts p " +
+            "  WHERE p.id = :postId AND NOT EXISTS (SELECT 1 FROM del) " +
+            "  ON CONFLICT (user_id, post_id) DO NOTHING RETURNING post_id" +
+            "), delta AS (" +
+            "  SELECT (SELECT COUNT(*) FROM ins) - (SELECT COUNT(*) FROM del) AS d" +
+            "), upd AS (" +
+            "  UPDATE posts SET like_count = like_count + (SELECT d FROM delta) " +
+            "  WHERE id = :postId AND (SELECT d FROM delta) <> 0 RETURNING like_count" +
+            ") " +
+            "SELECT (SELECT d FROM delta) <> 0 AS \"changed\", " +
+            "  NOT EXISTS (SELECT 1 FROM del) AS \"liked\", " +
+            "  COALESCE((SELECT like_count FROM upd), p.like_count) AS \"likeCount\" " +
+            "FROM posts p WHERE p.id = :postId",
+            nativeQuery = true)
+    Optional<LikeChange> toggle(@Param("userId") Long userId, @Param("postId") Long postId);
+
     void deleteByUserAndPost(User user, Post post);
 }
\ No newline at end of file
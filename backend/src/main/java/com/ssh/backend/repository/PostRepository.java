@@ -3,11 +3,16 @@ package com.ssh.backend.repository;
 import com.ssh.backend.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -37,5 +42,152 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "ORDER BY p.createdAt DESC")
     Page<Post> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
-}
+    /**
+     * 커서 기반 피드 조회 (created_at, id 역순, COUNT 쿼리 없음)
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.user " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedFirst(Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.user " +
+            "WHERE (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedBefore(@Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id,
+                               Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.user " +
+            "WHERE p.user.id = :userId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findUserFeedFirst(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.user " +
+            "WHERE p.user.id = :userId AND (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findUserFeedBefore(@Param("userId") Long userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.id IN :postIds")
+    List<Post> findAllWithUserByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 여러 작성자의 최신 게시물 (홈 피드 pull 병합용)
+     */
+    @Query("SELECT p FROM Post p JOIN FETCH p.user " +
+            "WHERE p.user.id IN :userIds " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findLatestByUserIds(@Param("userIds") Collection<Long> userIds, Pageable pageable);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.user " +
+            "WHERE p.user.id IN :userIds AND (p.createdAt, p.id) < (:createdAt, :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByUserIdsBefore(@Param("userIds") Collection<Long> userIds,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    /**
+     * 검색 결과 (게시물 ID + 관련도)
+     */
+    interface SearchHit {
+        Long getId();
+
+        Float getRank();
+    }
+
+    /**
+     * 전문 검색 첫 페이지 (관련도, id 역순)
+     * words 는 plainto_tsquery 로, tags 는 해시태그/멘션 lexeme 을 '&' 로 이은 tsquery 문자열로 받아 AND 결합한다.
+     * GIN 인덱스로 찾은 일치 게시물 중 id 가 :maxId 이하인 최신 :candidates 개만 순위를 매긴다.
+     * (maxId 는 첫 페이지 시점 값을 커서로 넘겨 페이지마다 같은 후보 범위를 쓴다)
+     */
+    @Query(value = "WITH q AS (" +
+            "  SELECT plainto_tsquery('simple', :words) && CAST(:tags AS tsquery) AS query" +
+            "), candidates AS (" +
+            "  SELECT p.id, p.search_vector FROM posts p, q WHERE p.search_vector @@ q.query AND p.id <= :maxId " +
+            "  ORDER BY p.id DESC LIMIT :candidates" +
+            "), ranked AS (" +
+            "  SELECT c.id, CAST(ts_rank_cd(c.search_vector, q.query) AS real) AS rank FROM candidates c, q" +
+            ") " +
+            "SELECT r.id AS \"id\", r.rank AS \"rank\" FROM ranked r " +
+            "ORDER BY r.rank DESC, r.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<SearchHit> searchFirst(@Param("words") String words,
+                                @Param("tags") String tags,
+                                @Param("maxId") long maxId,
+                                @Param("candidates") int candidates,
+                                @Param("limit") int limit);
 
+    @Query(value = "WITH q AS (" +
+            "  SELECT plainto_tsquery('simple', :words) && CAST(:tags AS tsquery) AS query" +
+            "), candidates AS (" +
+            "  SELECT p.id, p.search_vector FROM posts p, q WHERE p.search_vector @@ q.query AND p.id <= :maxId " +
+            "  ORDER BY p.id DESC LIMIT :candidates" +
+            "), ranked AS (" +
+            "  SELECT c.id, CAST(ts_rank_cd(c.search_vector, q.query) AS real) AS rank FROM candidates c, q" +
+            ") " +
+            "SELECT r.id AS \"id\", r.rank AS \"rank\" FROM ranked r " +
+            "WHERE (r.rank, r.id) < (CAST(:rank AS real), :id) " +
+            "ORDER BY r.rank DESC, r.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<SearchHit> searchAfter(@Param("words") String words,
+                                @Param("tags") String tags,
+                                @Param("rank") float rank,
+                                @Param("id") Long id,
+                                @Param("maxId") long maxId,
+                                @Param("candidates") int candidates,
+                                @Param("limit") int limit);
+
+    /**
+     * 좋아요/댓글 카운터 원자적 증감 (like_count = like_count + :delta)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+    int adjustLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int adjustCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findLikeCountById(@Param("postId") Long postId);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM posts", nativeQuery = true)
+    long findMaxId();
+
+    /**
+     * (fromId, toId] 범위에서 실제 likes/comments 행 수와 카운터가 어긋난 게시물 ID (잠금 없음)
+     */
+    @Query(value = "SELECT p.id FROM posts p WHERE p.id > :fromId AND p.id <= :toId " +
+            "AND p.like_count <> (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id)", nativeQuery = true)
+    List<Long> findLikeCountDriftIds(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(value = "SELECT p.id FROM posts p WHERE p.id > :fromId AND p.id <= :toId " +
+            "AND p.comment_count <> (SELECT COUNT(*) FROM comments cm WHERE cm.post_id = p.id)", nativeQuery = true)
+    List<Long> findCommentCountDriftIds(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 게시물 행 잠금 (카운터 증감 트랜잭션이 끝날 때까지 대기)
+     */
+    @Query(value = "SELECT id FROM posts WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 어긋난 카운터 보정 (lockByIdIn 이후 별도 문장으로 실행해, 잠금을 기다리는 동안 커밋된 증감까지 보고 다시 센다)
+     */
+    @Modifying
+    @Query(value = "UPDATE posts p SET like_count = c.cnt " +
+            "FROM (SELECT p2.id, (SELECT COUNT(*) FROM likes l WHERE l.post_id = p2.id) AS cnt " +
+            "      FROM posts p2 WHERE p2.id IN (:ids)) c " +
+            "WHERE p.id = c.id AND p.like_count <> c.cnt", nativeQuery = true)
+    int reconcileLikeCounts(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE posts p SET comment_count = c.cnt " +
+            "FROM (SELECT p2.id, (SELECT COUNT(*) FROM comments cm WHERE cm.post_id = p2.id) AS cnt " +
+            "      FROM posts p2 WHERE p2.id IN (:ids)) c " +
+            "WHERE p.id = c.id AND p.comment_count <> c.cnt", nativeQuery = true)
+    int reconcileCommentCounts(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,32 @@
+package com.ssh.backend.repository;
+
+import com.ssh.backend.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    /**
+     * 참조 추가 (없으면 1로 생성) 후 현재 참조 수 반환
+     * 행 잠금은 트랜잭션 끝까지 유지되므로 같은 파일의 동시 업로드/삭제가 직렬화된다.
+     */
+    @Query(value = "INSERT INTO stored_files (filename, ref_count, size, created_at) " +
+            "VALUES (:filename, 1, :size, now()) " +
+            "ON CONFLICT (filename) DO UPDATE SET ref_count = stored_files.ref_count + 1 " +
+            "RETURNING ref_count", nativeQuery = true)
+    long acquire(@Param("filename") String filename, @Param("size") long size);
+
+    /**
+     * 참조 해제 후 남은 참조 수 반환 (등록되지 않은 파일이면 null)
+     */
+    @Query(value = "UPDATE stored_files SET ref_count = ref_count - 1 " +
+            "WHERE filename = :filename AND ref_count > 0 " +
+            "RETURNING ref_count", nativeQuery = true)
+    Long release(@Param("filename") String filename);
+
+    @Modifying
+    @Query(value = "DELETE FROM stored_files WHERE filename = :filename AND ref_count = 0", nativeQuery = true)
+    int deleteUnreferenced(@Param("filename") String filename);
+}
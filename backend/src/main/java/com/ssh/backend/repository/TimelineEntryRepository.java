@@ -0,0 +1,91 @@
+package com.ssh.backend.repository;
+
+import com.ssh.backend.entity.TimelineEntry;
+import com.ssh.backend.entity.TimelineEntryId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, TimelineEntryId> {
+
+    /**
+     * 팔로워 배치 단위 fan-out (이미 있는 항목은 무시)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO timeline_entries (user_id, post_id, author_id, created_at) " +
+            "SELECT f.follower_id, :postId, :authorId, :createdAt FROM follows f " +
+            "WHERE f.following_id = :authorId AND f.follower_id IN (:followerIds) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int fanOut(@Param("postId") Long postId,
+               @Param("authorId") Long authorId,
+               @Param("createdAt") LocalDateTime createdAt,
+               @Param("followerIds") Collection<Long> followerIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO timeline_entries (user_id, post_id, author_id, created_at) " +
+            "VALUES (:userId, :postId, :authorId, :createdAt) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertEntry(@Param("userId") Long userId,
+                    @Param("postId") Long postId,
+                    @Param("authorId") Long authorId,
+                    @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 새로 팔로우한 작성자의 최근 게시물을 타임라인에 채워 넣기
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO timeline_entries (user_id, post_id, author_id, created_at) " +
+            "SELECT :userId, p.id, p.user_id, p.created_at FROM posts p " +
+            "WHERE p.user_id = :authorId ORDER BY p.created_at DESC LIMIT :limit " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int backfill(@Param("userId") Long userId, @Param("authorId") Long authorId, @Param("limit") int limit);
+
+    @Query("SELECT t FROM TimelineEntry t WHERE t.id.userId = :userId " +
+            "ORDER BY t.createdAt DESC, t.id.postId DESC")
+    List<TimelineEntry> findLatest(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM TimelineEntry t WHERE t.id.userId = :userId " +
+            "AND (t.createdAt, t.id.postId) < (:createdAt, :postId) " +
+            "ORDER BY t.createdAt DESC, t.id.postId DESC")
+    List<TimelineEntry> findBefore(@Param("userId") Long userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("postId") Long postId,
+                                   Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TimelineEntry t WHERE t.id.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TimelineEntry t WHERE t.id.userId = :userId AND t.authorId = :authorId")
+    int deleteByUserIdAndAuthorId(@Param("userId") Long userId, @Param("authorId") Long authorId);
+
+    /**
+     * (fromUserId, toUserId] 범위 사용자마다 최신 :keep 개만 남기고 오래된 항목 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM timeline_entries t USING (" +
+            "  SELECT user_id, post_id FROM (" +
+            "    SELECT user_id, post_id, " +
+            "           row_number() OVER (PARTITION BY user_id ORDER BY created_at DESC, post_id DESC) AS rn " +
+            "    FROM timeline_entries WHERE user_id > :fromUserId AND user_id <= :toUserId" +
+            "  ) r WHERE r.rn > :keep" +
+            ") old " +
+            "WHERE t.user_id = old.user_id AND t.post_id = old.post_id", nativeQuery = true)
+    int trimOlderThanLatest(@Param("fromUserId") long fromUserId,
+                            @Param("toUserId") long toUserId,
+                            @Param("keep") int keep);
+}
@@ -2,8 +2,15 @@ package com.ssh.backend.repository;
 
 import com.fasterxml.jackson.annotation.OptBoolean;
 import com.ssh.backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -15,4 +22,89 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    /**
+     * 사용자 검색 색인 적재용 (id 순 키셋 페이징)
+     */
+    interface TypeaheadRow {
+        Long getId();
+
+        String getUsername();
+
+        String getFullName();
+
+        String getProfileImageUrl();
+
+        long getFollowersCount();
+    }
+
+    @Query("SELECT u.id AS id, u.username AS username, u.fullName AS fullName, " +
+            "u.profileImageUrl AS profileImageUrl, u.followersCount AS followersCount " +
+            "FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<TypeaheadRow> findTypeaheadRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 팔로워/팔로잉 카운터 원자적 증감
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.followersCount = u.followersCount + :delta WHERE u.id = :userId")
+    int adjustFollowersCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = u.followingCount + :delta WHERE u.id = :userId")
+    int adjustFollowingCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 팔로워가 기준을 넘으면 pull 작성자로 표시 (해제하지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.pullTimeline = true " +
+            "WHERE u.id = :userId AND u.pullTimeline = false AND u.followersCount > :threshold")
+    int markPullTimeline(@Param("userId") Long userId, @Param("threshold") long threshold);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.pullTimeline = true WHERE u.pullTimeline = false AND u.followersCount > :threshold")
+    int markPullTimelines(@Param("threshold") long threshold);
+
+    @Query("SELECT u.pullTimeline FROM User u WHERE u.id = :userId")
+    Boolean findPullTimelineById(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM users", nativeQuery = true)
+    long findMaxId();
+
+    /**
+     * (fromId, toId] 범위에서 실제 follows 행 수와 카운터가 어긋난 사용자 ID (잠금 없음)
+     */
+    @Query(value = "SELECT u.id FROM users u WHERE u.id > :fromId AND u.id <= :toId " +
+            "AND u.followers_count <> (SELECT COUNT(*) FROM follows f WHERE f.following_id = u.id)", nativeQuery = true)
+    List<Long> findFollowersCountDriftIds(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query(value = "SELECT u.id FROM users u WHERE u.id > :fromId AND u.id <= :toId " +
+            "AND u.following_count <> (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id)", nativeQuery = true)
+    List<Long> findFollowingCountDriftIds(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * 사용자 행 잠금 (팔로우 카운터 증감 트랜잭션이 끝날 때까지 대기)
+     */
+    @Query(value = "SELECT id FROM users WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 어긋난 카운터 보정 (lockByIdIn 이후 별도 문장으로 실행해, 잠금을 기다리는 동안 커밋된 증감까지 보고 다시 센다)
+     */
+    @Modifying
+    @Query(value = "UPDATE users u SET followers_count = c.cnt " +
+            "FROM (SELECT u2.id, (SELECT COUNT(*) FROM follows f WHERE f.following_id = u2.id) AS cnt " +
+            "      FROM users u2 WHERE u2.id IN (:ids)) c " +
+            "WHERE u.id = c.id AND u.followers_count <> c.cnt", nativeQuery = true)
+    int reconcileFollowersCounts(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE users u SET following_count = c.cnt " +
+            "FROM (SELECT u2.id, (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u2.id) AS cnt " +
+            "      FROM users u2 WHERE u2.id IN (:ids)) c " +
+            "WHERE u.id = c.id AND u.following_count <> c.cnt", nativeQuery = true)
+    int reconcileFollowingCounts(@Param("ids") Collection<Long> ids);
 }
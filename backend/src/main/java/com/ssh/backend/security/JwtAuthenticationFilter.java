@@ -1,11 +1,14 @@
 package com.ssh.backend.security;
 
+import com.ssh.backend.entity.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,6 +24,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // true 이면 access token 클레임만으로 인증 (요청마다 사용자 조회 생략)
+    @Value("${jwt.stateless}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -40,29 +48,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        final Claims claims;
         try {
-            username = jwtService.extractUsername(jwt);
+            claims = jwtService.extractAllClaims(jwt);
+            username = jwtService.extractUsername(claims);
         } catch (Exception e) {
             filterChain.doFilter(request, response);
             return;
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            // stateless 모드: 검증된 클레임으로 principal 구성 (DB 조회 없음)
+            JwtPrincipal principal = stateless ? JwtPrincipal.from(claims) : null;
+
+            if (principal != null) {
+                if (!tokenRevocationService.isRevoked(principal.getId(), jwtService.extractIssuedAtMillis(claims))) {
+                    authenticate(request, principal);
+                }
+            } else {
+                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+                if (jwtService.isTokenValid(claims, userDetails) && !isRevoked(userDetails, claims)) {
+                    authenticate(request, userDetails);
+                }
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean isRevoked(UserDetails userDetails, Claims claims) {
+        return userDetails instanceof User user
+                && tokenRevocationService.isRevoked(user.getId(), jwtService.extractIssuedAtMillis(claims));
+    }
+
+    private void authenticate(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.ssh.backend.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 검증된 JWT 클레임만으로 만든 경량 principal (DB 조회 없음)
+ * 전체 User 엔티티가 필요한 경우에만 AuthenticationService 에서 ID 로 로드한다.
+ */
+@Getter
+public class JwtPrincipal implements UserDetails {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String fullName;
+    private final String profileImageUrl;
+
+    private JwtPrincipal(Long id, String username, String email, String fullName, String profileImageUrl) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.fullName = fullName;
+        this.profileImageUrl = profileImageUrl;
+    }
+
+    /**
+     * access token 클레임으로 principal 생성 (id 클레임이 없는 토큰이면 null)
+     */
+    public static JwtPrincipal from(Claims claims) {
+        Object id = claims.get("id");
+        if (!(id instanceof Number number)) {
+            return null;
+        }
+        return new JwtPrincipal(
+                number.longValue(),
+                claims.get("username", String.class),
+                claims.get("email", String.class),
+                claims.get("fullName", String.class),
+                claims.get("profileImageUrl", String.class)
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+}
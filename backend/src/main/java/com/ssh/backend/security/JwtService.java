@@ -1,7 +1,9 @@
 package com.ssh.backend.security;
 
 import com.ssh.backend.entity.User;
+import com.ssh.backend.util.ExpiringLruCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -13,15 +15,22 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.function.Function;
 
 @Slf4j
 @Service
 public class JwtService {
+    // 밀리초 단위 발급 시각 클레임 (표준 iat 은 초 단위라 같은 초의 로그아웃/재로그인을 구분하지 못함)
+    private static final String ISSUED_AT_MILLIS = "iatMs";
+
     // application.yml, 환경변수로부터 주입
     @Value("${jwt.secret}")
     private String secretKey;
@@ -32,16 +41,38 @@ public class JwtService {
     @Value("${jwt.refresh-expiration}")
     private long refreshExpiration;
 
+    @Value("${jwt.verified-cache.max-size}")
+    private int verifiedCacheSize;
+
+    @Value("${jwt.verified-cache.ttl}")
+    private long verifiedCacheTtl;
+
+    // 서명 키와 파서는 한 번만 만들어 재사용 (JwtParser 는 불변/스레드 안전)
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // 최근 검증한 토큰의 SHA-256 -> 클레임 (같은 토큰 재검증 생략, 원문 토큰은 메모리에 남기지 않음)
+    private ExpiringLruCache<String, Claims> verifiedTokens;
+
     @PostConstruct
     public void init() {
         log.debug("JWT_SECRET: {}", secretKey);
         log.debug("JWT_EXPIRATION: {}", jwtExpiration);
         log.debug("JWT_REFRESH_EXPIRATION: {}", refreshExpiration);
+
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = new ExpiringLruCache<>(verifiedCacheSize, verifiedCacheTtl);
     }
 
 
     public String extractUsername(String token) {
-        Claims claims = extractAllClaims(token);
+        return extractUsername(extractAllClaims(token));
+    }
+
+    public String extractUsername(Claims claims) {
         if (claims.containsKey("id")) {
             return String.valueOf(claims.get("id"));
         }
@@ -88,50 +119,84 @@ public class JwtService {
             UserDetails userDetails,
             long expiration
     ) {
+        long now = System.currentTimeMillis();
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(ISSUED_AT_MILLIS, now);
         return Jwts
                 .builder()
-                .setClaims(extraClaims)
+                .setClaims(claims)
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String identifier = extractUsername(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
+    }
+
+    // 이미 검증된 클레임으로 판정 (토큰 재파싱 없음)
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String identifier = extractUsername(claims);
 
         if (userDetails instanceof User user) {
             // 토큰의 식별자가 user.id이거나 user.username인 경우 허용
             boolean identifierMatches = identifier.equals(String.valueOf(user.getId()))
                     || identifier.equals(user.getUsername());
 
-            // 토큰이 만료되지 않았는지 확인 (!isTokenExpired)
-            return identifierMatches && isTokenExpired(token);
+            // 토큰이 만료되지 않았는지 확인
+            return identifierMatches && isNotExpired(claims);
         }
 
         // 일반 UserDetails인 경우 subject(==username)과 비교
-        return identifier.equals(userDetails.getUsername()) && isTokenExpired(token);
+        return identifier.equals(userDetails.getUsername()) && isNotExpired(claims);
     }
 
 
-    private boolean isTokenExpired(String token) { return extractExpiration(token).after(new Date()); }
+    /**
+     * 발급 시각 (밀리초, 클레임이 없는 이전 토큰은 iat 초의 시작 시각, 둘 다 없으면 null)
+     */
+    public Long extractIssuedAtMillis(Claims claims) {
+        Number issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Number.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis.longValue();
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.getTime();
+    }
 
-    private Date extractExpiration(String token) { return extractClaim(token, Claims::getExpiration); }
+    private boolean isNotExpired(Claims claims) { return claims.getExpiration().after(new Date()); }
 
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+    // 서명/만료 검증 후 클레임 반환 (검증 실패 시 JwtException)
+    public Claims extractAllClaims(String token) {
+        String key = digest(token);
+        Claims cached = verifiedTokens.get(key);
+        // 캐시 TTL 과 별개로 토큰 자체 만료는 항상 확인
+        if (cached != null && isNotExpired(cached)) {
+            return cached;
+        }
+
+        Claims claims = jwtParser
                 .parseClaimsJws(token) // JWs로 해야 검증 => Jwt 로 하면 안됨.
                 .getBody();
+        verifiedTokens.put(key, claims);
+        return claims;
+    }
+
+    // 검증 캐시 키 (MessageDigest 는 스레드 안전하지 않아 호출마다 생성)
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.ssh.backend.security;
 
 import com.ssh.backend.entity.User;
+import com.ssh.backend.event.UserChangedEvent;
 import com.ssh.backend.repository.UserRepository;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
@@ -23,6 +25,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${frontend.url}")
     private String frontendUrl;
@@ -71,6 +75,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userCache.evict(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user));
 
         String accessToken = jwtService.generateToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
@@ -0,0 +1,147 @@
+package com.ssh.backend.security;
+
+import com.ssh.backend.entity.User;
+import com.ssh.backend.util.ExpiringLruCache;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 속도 제한 (bucket4j 토큰 버킷)
+ * - auth: 로그인/회원가입 (BCrypt 연산) → 클라이언트 IP 기준
+ * - interaction: 좋아요/팔로우 변경 → 로그인 사용자 기준 (비로그인은 IP)
+ * 버킷은 크기/TTL 제한이 있는 맵에 두어 키가 많아져도 메모리가 무한히 늘지 않는다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final List<String> AUTH_PATHS = List.of("/api/auth/login", "/api/auth/register");
+    private static final List<String> INTERACTION_PATHS = List.of("/api/posts/*/like", "/api/users/*/follow");
+
+    @Value("${rate-limit.enabled}")
+    private boolean enabled;
+
+    @Value("${rate-limit.max-buckets}")
+    private int maxBuckets;
+
+    @Value("${rate-limit.bucket-ttl}")
+    private long bucketTtl;
+
+    @Value("${rate-limit.auth.capacity}")
+    private long authCapacity;
+
+    @Value("${rate-limit.auth.refill-period}")
+    private long authRefillPeriod;
+
+    @Value("${rate-limit.interaction.capacity}")
+    private long interactionCapacity;
+
+    @Value("${rate-limit.interaction.refill-period}")
+    private long interactionRefillPeriod;
+
+    private ExpiringLruCache<String, Bucket> buckets;
+
+    @PostConstruct
+    public void init() {
+        buckets = new ExpiringLruCache<>(maxBuckets, bucketTtl);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || routeGroup(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RouteGroup group = routeGroup(request);
+        // getRemoteAddr: 신뢰하는 프록시 뒤라면 X-Forwarded-For 로 복원된 클라이언트 IP (server.forward-headers-strategy)
+        String key = group == RouteGroup.AUTH
+                ? group.name() + ":ip:" + request.getRemoteAddr()
+                : group.name() + ":" + clientKey(request);
+
+        Bucket bucket = buckets.computeIfAbsent(key, k -> newBucket(group));
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed()) {
+            response.setHeader("X-RateLimit-Remaining", String.valueOf(probe.getRemainingTokens()));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill()) + 1);
+        log.debug("Rate limit exceeded: {}", key);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 너무 많습니다. 잠시 후 다시 시도해주세요");
+    }
+
+    private Bucket newBucket(RouteGroup group) {
+        long capacity = group == RouteGroup.AUTH ? authCapacity : interactionCapacity;
+        long refillPeriod = group == RouteGroup.AUTH ? authRefillPeriod : interactionRefillPeriod;
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(capacity, Refill.greedy(capacity, Duration.ofMillis(refillPeriod))))
+                .build();
+    }
+
+    // JwtAuthenticationFilter 뒤에서 실행되므로 인증 정보가 있으면 사용자 ID 사용
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            if (authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+                return "user:" + jwtPrincipal.getId();
+            }
+            if (authentication.getPrincipal() instanceof User user) {
+                return "user:" + user.getId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private RouteGroup routeGroup(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (HttpMethod.POST.matches(request.getMethod()) && matches(AUTH_PATHS, path)) {
+            return RouteGroup.AUTH;
+        }
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.OPTIONS.matches(request.getMethod())
+                && matches(INTERACTION_PATHS, path)) {
+            return RouteGroup.INTERACTION;
+        }
+        return null;
+    }
+
+    private boolean matches(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum RouteGroup {
+        AUTH,
+        INTERACTION
+    }
+}
@@ -0,0 +1,44 @@
+package com.ssh.backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 단위 토큰 폐기 (in-memory)
+ * 폐기 시각 이전에 발급된 토큰은 모두 거부한다. (밀리초 단위 비교, 폐기 직후 재발급한 토큰은 유효)
+ * 노드 로컬 상태이므로 다중 노드 환경에서는 각 노드에 개별 적용된다.
+ */
+@Service
+public class TokenRevocationService {
+
+    // userId -> 폐기 시각 (epoch millis)
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    public void revokeAll(Long userId) {
+        revokedBefore.put(userId, System.currentTimeMillis());
+    }
+
+    public boolean isRevoked(Long userId, Long issuedAtMillis) {
+        Long revokedAt = revokedBefore.get(userId);
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAtMillis == null || issuedAtMillis < revokedAt;
+    }
+
+    /**
+     * 가장 긴 토큰 수명(refresh)이 지난 폐기 기록은 더 이상 필요 없으므로 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-expiration}")
+    public void purgeExpired() {
+        long threshold = System.currentTimeMillis() - refreshExpiration;
+        revokedBefore.values().removeIf(revokedAt -> revokedAt < threshold);
+    }
+}
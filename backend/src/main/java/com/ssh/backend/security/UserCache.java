@@ -0,0 +1,92 @@
+package com.ssh.backend.security;
+
+import com.ssh.backend.entity.AuthProvider;
+import com.ssh.backend.entity.User;
+import com.ssh.backend.util.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 인증된 사용자 캐시 (ID, username 두 키로 조회)
+ * 요청마다 반복되는 사용자 SELECT 를 줄이기 위한 용도이며, 프로필 수정 시 무효화한다.
+ * 엔티티 대신 불변 스냅샷을 보관하고 조회마다 새 User 로 만들어 준다. (한 요청에서 고친 필드가 다른 요청에 보이지 않음)
+ */
+@Component
+public class UserCache {
+
+    private final ExpiringLruCache<Long, Snapshot> usersById;
+    private final ExpiringLruCache<String, Long> idsByUsername;
+
+    public UserCache(
+            @Value("${user-cache.max-size}") int maxSize,
+            @Value("${user-cache.ttl}") long ttlMillis
+    ) {
+        this.usersById = new ExpiringLruCache<>(maxSize, ttlMillis);
+        this.idsByUsername = new ExpiringLruCache<>(maxSize, ttlMillis);
+    }
+
+    public Optional<User> getById(Long userId) {
+        return Optional.ofNullable(usersById.get(userId)).map(Snapshot::toUser);
+    }
+
+    public Optional<User> getByUsername(String username) {
+        Long userId = idsByUsername.get(username);
+        if (userId == null) {
+            return Optional.empty();
+        }
+        // username 이 바뀐 경우 등 ID 캐시와 어긋나면 무시
+        return Optional.ofNullable(usersById.get(userId))
+                .filter(snapshot -> username.equals(snapshot.username()))
+                .map(Snapshot::toUser);
+    }
+
+    public User put(User user) {
+        usersById.put(user.getId(), Snapshot.of(user));
+        idsByUsername.put(user.getUsername(), user.getId());
+        return user;
+    }
+
+    public void evict(User user) {
+        usersById.remove(user.getId());
+        idsByUsername.remove(user.getUsername());
+    }
+
+    /**
+     * 인증/현재 사용자 조회에 쓰는 컬럼 값 (연관 컬렉션은 담지 않음)
+     */
+    private record Snapshot(Long id, String username, String email, String password, String fullName, String bio,
+                            String profileImageUrl, AuthProvider provider, String providerId,
+                            LocalDateTime createdAt, LocalDateTime updatedAt, boolean enabled,
+                            long followersCount, long followingCount, boolean pullTimeline) {
+
+        static Snapshot of(User user) {
+            return new Snapshot(user.getId(), user.getUsername(), user.getEmail(), user.getPassword(),
+                    user.getFullName(), user.getBio(), user.getProfileImageUrl(), user.getProvider(),
+                    user.getProviderId(), user.getCreatedAt(), user.getUpdatedAt(), user.isEnabled(),
+                    user.getFollowersCount(), user.getFollowingCount(), user.isPullTimeline());
+        }
+
+        User toUser() {
+            return User.builder()
+                    .id(id)
+                    .username(username)
+                    .email(email)
+                    .password(password)
+                    .fullName(fullName)
+                    .bio(bio)
+                    .profileImageUrl(profileImageUrl)
+                    .provider(provider)
+                    .providerId(providerId)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .enabled(enabled)
+                    .followersCount(followersCount)
+                    .followingCount(followingCount)
+                    .pullTimeline(pullTimeline)
+                    .build();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.ssh.backend.dto.RegisterRequest;
 import com.ssh.backend.dto.UserDto;
 import com.ssh.backend.entity.AuthProvider;
 import com.ssh.backend.entity.User;
+import com.ssh.backend.event.UserChangedEvent;
 import com.ssh.backend.exception.AuthenticationException;
 import com.ssh.backend.exception.BadRequestException;
 import com.ssh.backend.exception.UserAlreadyExistsException;
@@ -13,6 +14,7 @@ import com.ssh.backend.repository.UserRepository;
 import com.ssh.backend.security.JwtService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -29,6 +31,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AuthResponse register(RegisterRequest request) {
 
@@ -53,6 +56,7 @@ public class AuthService {
         //DB저장
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(user));
 
 
         // 5. JWT Access Token & Refresh Token 생성
@@ -6,6 +6,8 @@ import com.ssh.backend.entity.User;
 import com.ssh.backend.exception.ResourceNotFoundException;
 import com.ssh.backend.repository.PostRepository;
 import com.ssh.backend.repository.UserRepository;
+import com.ssh.backend.security.JwtPrincipal;
+import com.ssh.backend.security.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,6 +19,7 @@ import org.springframework.stereotype.Service;
 public class AuthenticationService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     public User getCurrentUser() {
 
@@ -27,21 +30,43 @@ public class AuthenticationService {
 
         }
 
+        // JwtAuthenticationFilter 에서 이미 로드한 사용자는 그대로 사용 (추가 조회 없음)
+        if (authentication.getPrincipal() instanceof User userPrincipal) {
+            return userPrincipal;
+        }
+
+        // stateless 모드: 전체 엔티티가 필요한 경우에만 ID 로 로드
+        if (authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+            Long userId = jwtPrincipal.getId();
+            return userCache.getById(userId)
+                    .or(() -> userRepository.findById(userId).map(userCache::put))
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+        }
+
         String username;
 
-        if (authentication.getPrincipal() instanceof User userPrincipal) {
-            username = userPrincipal.getUsername();
-        } else if (authentication.getPrincipal() instanceof UserDetails userDetails) {
+        if (authentication.getPrincipal() instanceof UserDetails userDetails) {
             username = userDetails.getUsername();
         }else {
             username = authentication.getName();
         }
 
-        return userRepository.findByUsername(username)
+        return userCache.getByUsername(username)
+                .or(() -> userRepository.findByUsername(username).map(userCache::put))
                 .or(() -> userRepository.findByEmail(username))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found for username " + username));
 
     }
 
+    /**
+     * 현재 사용자 ID (stateless 모드에서는 DB 조회 없음)
+     */
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.getId();
+        }
+        return getCurrentUser().getId();
+    }
 }
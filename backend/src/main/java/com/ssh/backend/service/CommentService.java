@@ -5,10 +5,12 @@ import com.ssh.backend.dto.CommentResponse;
 import com.ssh.backend.entity.Comment;
 import com.ssh.backend.entity.Post;
 import com.ssh.backend.entity.User;
+import com.ssh.backend.event.FeedChangedEvent;
 import com.ssh.backend.exception.ResourceNotFoundException;
 import com.ssh.backend.repository.CommentRepository;
 import com.ssh.backend.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final AuthenticationService authenticationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentResponse createComment(Long postId, CommentRequest request) {
         User currentUser = authenticationService.getCurrentUser();
@@ -35,12 +38,14 @@ public class CommentService {
                 .build();
 
         comment = commentRepository.save(comment);
+        postRepository.adjustCommentCount(postId, 1);
+        eventPublisher.publishEvent(new FeedChangedEvent(postId));
         return CommentResponse.fromEntity(comment); 
     }
 
 @Transactional(readOnly = true)
     public Page<CommentResponse> getComments(Long postId, Pageable pageable) {
-        authenticationService.getCurrentUser();
+        authenticationService.getCurrentUserId();
 
         postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
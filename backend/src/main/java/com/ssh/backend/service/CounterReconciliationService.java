@@ -0,0 +1,95 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.event.FeedChangedEvent;
+import com.ssh.backend.repository.PostRepository;
+import com.ssh.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 비정규화 카운터 보정 작업
+ * 원자적 UPDATE 로 유지되는 카운터가 실제 행 수와 어긋났을 때 주기적으로 바로잡는다.
+ * id 범위 단위로 어긋난 행만 찾고, 그 행을 잠근 뒤 다시 세어 여전히 어긋난 경우에만 고친다.
+ * (잠금을 기다리는 동안 커밋된 좋아요/팔로우 증감을 덮어쓰지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterReconciliationService {
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 번에 검사하는 id 범위 크기 (범위마다 짧은 트랜잭션)
+    @Value("${counter.reconcile-batch-size}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${counter.reconcile-delay}", initialDelayString = "${counter.reconcile-delay}")
+    public void reconcilePostCounters() {
+        int likes = 0;
+        int comments = 0;
+        long maxId = postRepository.findMaxId();
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            long toId = fromId + batchSize;
+            likes += correct(postRepository.findLikeCountDriftIds(fromId, toId),
+                    postRepository::lockByIdIn, postRepository::reconcileLikeCounts);
+            comments += correct(postRepository.findCommentCountDriftIds(fromId, toId),
+                    postRepository::lockByIdIn, postRepository::reconcileCommentCounts);
+        }
+
+        if (likes > 0 || comments > 0) {
+            log.info("Reconciled post counters: like_count={}, comment_count={}", likes, comments);
+            eventPublisher.publishEvent(FeedChangedEvent.all());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${counter.reconcile-delay}", initialDelayString = "${counter.reconcile-delay}")
+    public void reconcileFollowCounters() {
+        int followers = 0;
+        int following = 0;
+        long maxId = userRepository.findMaxId();
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            long toId = fromId + batchSize;
+            followers += correct(userRepository.findFollowersCountDriftIds(fromId, toId),
+                    userRepository::lockByIdIn, userRepository::reconcileFollowersCounts);
+            following += correct(userRepository.findFollowingCountDriftIds(fromId, toId),
+                    userRepository::lockByIdIn, userRepository::reconcileFollowingCounts);
+        }
+
+        if (followers > 0 || following > 0) {
+            log.info("Reconciled follow counters: followers_count={}, following_count={}", followers, following);
+        }
+    }
+
+    // 어긋난 행을 잠근 뒤 새 문장(READ COMMITTED 의 새 스냅샷)에서 다시 세어 보정
+    private int correct(List<Long> drifted,
+                        Function<Collection<Long>, List<Long>> lock,
+                        ToIntFunction<Collection<Long>> reconcile) {
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+        try {
+            Integer corrected = transactionTemplate.execute(status -> {
+                lock.apply(drifted);
+                return reconcile.applyAsInt(drifted);
+            });
+            return corrected != null ? corrected : 0;
+        } catch (RuntimeException e) {
+            // 일괄 좋아요 반영 등과 교착되면 이번 범위만 건너뜀 (다음 주기에 다시 검사)
+            log.warn("Failed to reconcile counters for {} rows, retrying on next run", drifted.size(), e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.dto.PostResponse;
+import com.ssh.backend.entity.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 페이지 하이드레이션
+ * 좋아요/댓글 수는 Post 의 카운터 컬럼에서 바로 채우고,
+ * 좋아요 여부는 사용자별 좋아요 집합 캐시(LikedPostsCache)에서 페이지의 게시물 ID 마다 확인한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedHydrator {
+
+    private final Optional<LikeWriteBehindBuffer> writeBehind;
+    private final LikedPostsCache likedPostsCache;
+
+    public Page<PostResponse> hydrate(Page<Post> posts, Long viewerId) {
+        return new PageImpl<>(hydrate(posts.getContent(), viewerId), posts.getPageable(), posts.getTotalElements());
+    }
+
+    public Slice<PostResponse> hydrate(Slice<Post> posts, Long viewerId) {
+        return new SliceImpl<>(hydrate(posts.getContent(), viewerId), posts.getPageable(), posts.hasNext());
+    }
+
+    public List<PostResponse> hydrate(List<Post> posts, Long viewerId) {
+        if (posts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toSet());
+
+        Set<Long> likedPostIds = findLikedPostIds(viewerId, postIds);
+
+        return posts.stream()
+                .map(post -> {
+                    PostResponse response = PostResponse.from(post);
+                    response.setLiked(likedPostIds.contains(post.getId()));
+                    // 아직 DB 에 반영되지 않은 좋아요 수 증감
+                    writeBehind.ifPresent(buffer ->
+                            response.setLikeCount(response.getLikeCount() + buffer.pendingDelta(post.getId())));
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 주어진 게시물 중 사용자가 좋아요한 게시물 ID (write-behind 대기 중인 의도 포함)
+     */
+    public Set<Long> findLikedPostIds(Long viewerId, Collection<Long> postIds) {
+        if (viewerId == null || postIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> likedPostIds = likedPostsCache.likedAmong(viewerId, postIds);
+        writeBehind.ifPresent(buffer -> postIds.forEach(postId -> {
+            Boolean pending = buffer.pendingState(viewerId, postId);
+            if (Boolean.TRUE.equals(pending)) {
+                likedPostIds.add(postId);
+            } else if (Boolean.FALSE.equals(pending)) {
+                likedPostIds.remove(postId);
+            }
+        }));
+        return likedPostIds;
+    }
+}
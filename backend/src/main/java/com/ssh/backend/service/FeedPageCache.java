@@ -0,0 +1,297 @@
+package com.ssh.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssh.backend.dto.PostResponse;
+import com.ssh.backend.event.FeedChangedEvent;
+import com.ssh.backend.event.LikeChangedEvent;
+import com.ssh.backend.event.PostCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전체 피드 첫 페이지 응답 캐시 (GET /api/posts?page=0)
+ * 보는 사람과 무관한 부분(게시물, 작성자, 카운트)을 liked=false 로 한 번 직렬화한 JSON 바이트로 보관하고,
+ * 요청마다 좋아요한 게시물의 "false" 자리만 같은 길이의 "true " 로 덮어써 응답한다. (캐시 적중 시 JPA/Jackson 생략)
+ * 좋아요 수 변경은 캐시된 JSON 의 likeCount 만 고치고, 게시물 수정/삭제, 댓글 수, 작성자 정보 변경은
+ * 그 게시물이 있는 페이지만 무효화한다. ttl 이 지나도 다시 만들며, size 별로 동시에 한 요청만 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedPageCache {
+
+    private static final byte[] LIKED_FALSE = "\"liked\":false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LIKE_COUNT = "\"likeCount\":".getBytes(StandardCharsets.US_ASCII);
+    // "false" 와 길이를 맞춘 값 (JSON 에서 값 뒤 공백은 허용)
+    private static final byte[] TRUE_PADDED = "true ".getBytes(StandardCharsets.US_ASCII);
+    private static final int VALUE_OFFSET = "\"liked\":".length();
+
+    private final PostService postService;
+    private final FeedHydrator feedHydrator;
+    private final AuthenticationService authenticationService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${feed-cache.enabled}")
+    private boolean enabled;
+
+    // 캐시할 최대 페이지 크기 (size 별로 한 항목)
+    @Value("${feed-cache.max-page-size}")
+    private int maxPageSize;
+
+    @Value("${feed-cache.ttl}")
+    private long ttlMillis;
+
+    private final Map<Integer, Slot> slots = new ConcurrentHashMap<>();
+
+    public boolean supports(int page, int size) {
+        return enabled && page == 0 && size > 0 && size <= maxPageSize;
+    }
+
+    /**
+     * 현재 사용자 기준 첫 페이지 JSON (직렬화 결과에서 liked 위치를 찾지 못하면 null → 일반 경로 사용)
+     */
+    public byte[] firstPage(int size) {
+        CachedPage page = load(size, slots.computeIfAbsent(size, key -> new Slot()));
+        if (page == null) {
+            return null;
+        }
+
+        Long viewerId = authenticationService.getCurrentUserId();
+        return page.withLiked(feedHydrator.findLikedPostIds(viewerId, page.postIds()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        invalidate(null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedChanged(FeedChangedEvent event) {
+        invalidate(event.postId());
+    }
+
+    /**
+     * 좋아요 수는 페이지를 버리지 않고 캐시된 JSON 에서 ±1 (실제로 바뀐 경우에만 발행되므로 순서와 무관)
+     * 커밋과 이 이벤트 사이에 만들어진 페이지는 한 번 더 반영될 수 있으나 ttl 안에 다시 만들어진다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        Long postId = event.postId();
+        int delta = event.liked() ? 1 : -1;
+        for (Slot slot : slots.values()) {
+            synchronized (slot) {
+                slot.changed(postId);
+                if (slot.page != null) {
+                    int index = slot.page.postIds().indexOf(postId);
+                    if (index >= 0) {
+                        slot.page = slot.page.withLikeCountDelta(index, delta);
+                    }
+                }
+            }
+        }
+    }
+
+    private void invalidate(Long postId) {
+        for (Slot slot : slots.values()) {
+            synchronized (slot) {
+                slot.changed(postId);
+                if (slot.page != null && (postId == null || slot.page.postIds().contains(postId))) {
+                    slot.page = null;
+                }
+            }
+        }
+    }
+
+    // 캐시된 페이지가 없거나 만료됐으면 한 요청만 만들고 나머지는 그 결과를 기다림
+    private CachedPage load(int size, Slot slot) {
+        CompletableFuture<CachedPage> building;
+        synchronized (slot) {
+            if (slot.page != null && slot.page.expiresAt() >= System.currentTimeMillis()) {
+                return slot.page;
+            }
+            if (slot.building != null) {
+                building = slot.building;
+            } else {
+                slot.building = new CompletableFuture<>();
+                slot.changedWhileBuilding = new HashSet<>();
+                slot.allChangedWhileBuilding = false;
+                building = null;
+            }
+        }
+        if (building != null) {
+            // 만드는 쪽이 실패하면 null → 일반 경로
+            return building.join();
+        }
+
+        CachedPage page = null;
+        try {
+            page = build(size);
+            return page;
+        } finally {
+            CompletableFuture<CachedPage> done;
+            synchronized (slot) {
+                // 만드는 동안 이 페이지의 게시물이 바뀌었으면 저장하지 않음 (이번 응답에는 사용)
+                if (page != null && !slot.allChangedWhileBuilding
+                        && page.postIds().stream().noneMatch(slot.changedWhileBuilding::contains)) {
+                    slot.page = page;
+                }
+                done = slot.building;
+                slot.building = null;
+                slot.changedWhileBuilding = null;
+            }
+            done.complete(page);
+        }
+    }
+
+    private CachedPage build(int size) {
+        Page<PostResponse> posts = postService.getPosts(PageRequest.of(0, size), null);
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(posts);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize feed page", e);
+            return null;
+        }
+
+        List<Long> postIds = posts.getContent().stream().map(PostResponse::getId).toList();
+        return CachedPage.of(json, postIds, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * size 별 캐시 항목 (필드는 slot 으로 동기화)
+     */
+    private static final class Slot {
+        private CachedPage page;
+        // 생성 중일 때만 존재 (그 사이 바뀐 게시물, 전체 무효화 여부)
+        private CompletableFuture<CachedPage> building;
+        private Set<Long> changedWhileBuilding;
+        private boolean allChangedWhileBuilding;
+
+        private void changed(Long postId) {
+            if (building == null) {
+                return;
+            }
+            if (postId == null) {
+                allChangedWhileBuilding = true;
+            } else {
+                changedWhileBuilding.add(postId);
+            }
+        }
+    }
+
+    /**
+     * liked=false 로 직렬화한 페이지 JSON 과 게시물 순서대로의 liked / likeCount 값 위치
+     */
+    record CachedPage(byte[] json, List<Long> postIds, int[] likedOffsets, int[] likeCountOffsets,
+                      long expiresAt) {
+
+        /**
+         * 게시물 수만큼 liked / likeCount 위치를 찾지 못하면 null
+         * (문자열 안의 따옴표는 이스케이프되므로 본문과 겹치지 않음)
+         */
+        static CachedPage of(byte[] json, List<Long> postIds, long expiresAt) {
+            int[] likedOffsets = valueOffsets(json, LIKED_FALSE, VALUE_OFFSET, postIds.size());
+            int[] likeCountOffsets = valueOffsets(json, LIKE_COUNT, LIKE_COUNT.length, postIds.size());
+            if (likedOffsets == null || likeCountOffsets == null) {
+                return null;
+            }
+            return new CachedPage(json, postIds, likedOffsets, likeCountOffsets, expiresAt);
+        }
+
+        /**
+         * 좋아요한 게시물의 liked 값만 "true " 로 덮어쓴 JSON (없으면 캐시된 배열 그대로)
+         */
+        byte[] withLiked(Set<Long> likedPostIds) {
+            if (likedPostIds.isEmpty()) {
+                return json;
+            }
+            byte[] patched = Arrays.copyOf(json, json.length);
+            for (int i = 0; i < postIds.size(); i++) {
+                if (likedPostIds.contains(postIds.get(i))) {
+                    System.arraycopy(TRUE_PADDED, 0, patched, likedOffsets[i], TRUE_PADDED.length);
+                }
+            }
+            return patched;
+        }
+
+        /**
+         * index 번째 게시물의 likeCount 를 delta 만큼 바꾼 사본 (자릿수가 바뀌면 뒤쪽 위치를 민다)
+         */
+        CachedPage withLikeCountDelta(int index, int delta) {
+            int start = likeCountOffsets[index];
+            int end = start;
+            if (end < json.length && json[end] == '-') {
+                end++;
+            }
+            while (end < json.length && json[end] >= '0' && json[end] <= '9') {
+                end++;
+            }
+            long count = Long.parseLong(new String(json, start, end - start, StandardCharsets.US_ASCII));
+            byte[] digits = Long.toString(count + delta).getBytes(StandardCharsets.US_ASCII);
+
+            int shift = digits.length - (end - start);
+            byte[] patched = new byte[json.length + shift];
+            System.arraycopy(json, 0, patched, 0, start);
+            System.arraycopy(digits, 0, patched, start, digits.length);
+            System.arraycopy(json, end, patched, end + shift, json.length - end);
+
+            return new CachedPage(patched, postIds, shifted(likedOffsets, start, shift),
+                    shifted(likeCountOffsets, start, shift), expiresAt);
+        }
+
+        private static int[] shifted(int[] offsets, int after, int shift) {
+            if (shift == 0) {
+                return offsets;
+            }
+            int[] next = offsets.clone();
+            for (int i = 0; i < next.length; i++) {
+                if (next[i] > after) {
+                    next[i] += shift;
+                }
+            }
+            return next;
+        }
+
+        // pattern 이 정확히 count 번 나오면 각 위치 + valueOffset, 아니면 null
+        private static int[] valueOffsets(byte[] json, byte[] pattern, int valueOffset, int count) {
+            int[] offsets = new int[count];
+            int found = 0;
+            for (int i = indexOf(json, pattern, 0); i >= 0; i = indexOf(json, pattern, i + pattern.length)) {
+                if (found == count) {
+                    return null;
+                }
+                offsets[found++] = i + valueOffset;
+            }
+            return found == count ? offsets : null;
+        }
+
+        private static int indexOf(byte[] json, byte[] pattern, int from) {
+            outer:
+            for (int i = from; i <= json.length - pattern.length; i++) {
+                for (int j = 0; j < pattern.length; j++) {
+                    if (json[i + j] != pattern[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+}
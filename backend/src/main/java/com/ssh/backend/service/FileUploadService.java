@@ -1,28 +1,78 @@
 package com.ssh.backend.service;
 
 import com.ssh.backend.exception.BadRequestException;
+import com.ssh.backend.exception.ServiceUnavailableException;
+import com.ssh.backend.util.ImageType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 파일 업로드 서비스
+ * 본문을 스트리밍으로 받으면서 매직 바이트/크기/수신 시간을 검사해 조기에 거절하고,
+ * 임시 파일에 다 받은 뒤에만 저장소로 옮긴다.
+ * 동시 처리 제한은 본문을 다 받은 뒤 검사/저장 구간에만 걸어, 느리게 보내는 클라이언트가 허용량을 붙잡지 못하게 한다.
  */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class FileUploadService {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;  // application.yml에서 설정: ./uploads/profiles
+    private static final String PROFILE_URL_PREFIX = "/api/upload/profiles/";
+
+    private final ImageVariantService imageVariantService;
+    private final StoredFileService storedFileService;
+    private final AuthenticationService authenticationService;
+
+    // true 면 파일명을 내용의 SHA-256 으로 지정하고 참조 수로 중복 저장을 막음
+    @Value("${file.content-addressed}")
+    private boolean contentAddressed;
+
+    @Value("${file.max-size}")
+    private long maxFileSize;
+
+    // 업로드 본문을 받아 두는 임시 디렉토리 (로컬 저장소와 같은 파일시스템이면 rename 으로 이동)
+    @Value("${file.staging-dir}")
+    private String stagingDir;
+
+    @Value("${file.max-concurrent-uploads}")
+    private int maxConcurrentUploads;
+
+    @Value("${file.upload-acquire-timeout}")
+    private long uploadAcquireTimeout;
+
+    // 본문 전체를 받는 데 허용하는 시간 (ms, 넘으면 중단)
+    @Value("${file.upload-read-timeout}")
+    private long uploadReadTimeout;
+
+    // 동시 처리 수 제한 (몰려드는 대용량 업로드의 디코딩/저장이 CPU, 디스크 I/O 를 점유하지 않도록)
+    private Semaphore uploadPermits;
+
+    @PostConstruct
+    public void init() {
+        uploadPermits = new Semaphore(maxConcurrentUploads);
+    }
 
     /**
-     * 프로필 이미지 업로드
+     * 프로필 이미지 업로드 (multipart)
      *
      * @return 접근 가능한 이미지 URL
      */
@@ -32,52 +82,173 @@ public class FileUploadService {
             throw new org.apache.coyote.BadRequestException("파일이 비어있습니다");
         }
 
-        // 2. 파일 타입 검증 (이미지만 허용)
-        String contentType = file.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new BadRequestException("이미지 파일만 업로드 가능합니다");
+        // 2. 선언된 크기로 먼저 거절
+        if (file.getSize() > maxFileSize) {
+            throw tooLarge();
         }
 
-        // 3. 파일 크기 검증 (10MB 제한)
-        if (file.getSize() > 10 * 1024 * 1024) {
-            throw new BadRequestException("파일 크기는 10MB를 초과할 수 없습니다");
+        try (InputStream content = file.getInputStream()) {
+            return ingest(content, authenticationService.getCurrentUserId());
         }
+    }
 
-        // 4. 고유한 파일명 생성 (UUID + 확장자)
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+    /**
+     * 프로필 이미지 업로드 (요청 본문 스트리밍, multipart 파싱 없음)
+     *
+     * @param contentLength 요청 Content-Length (알 수 없으면 -1)
+     * @return 접근 가능한 이미지 URL
+     */
+    public String uploadProfileImage(InputStream content, long contentLength) throws IOException {
+        // Content-Length 로 본문을 읽기 전에 거절
+        if (contentLength > maxFileSize) {
+            throw tooLarge();
         }
-        String storedFilename = UUID.randomUUID().toString() + extension;
+        return ingest(content, authenticationService.getCurrentUserId());
+    }
 
-        // 5. 저장 디렉토리 생성
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+    // ownerId: 업로드한 사용자 (참조 소유자)
+    private String ingest(InputStream content, Long ownerId) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(uploadReadTimeout);
+        Path staged = null;
+        try {
+            // 1. 앞부분 매직 바이트로 이미지 여부 판별 (클라이언트 Content-Type 은 신뢰하지 않음)
+            byte[] header = content.readNBytes(ImageType.HEADER_SIZE);
+            if (header.length == 0) {
+                throw new BadRequestException("파일이 비어있습니다");
+            }
+            ImageType imageType = ImageType.detect(header)
+                    .orElseThrow(() -> new BadRequestException("이미지 파일만 업로드 가능합니다"));
+
+            // 2. 임시 파일로 받으면서 크기 제한이나 수신 시간을 넘는 순간 중단 (허용량 없이)
+            Path stagingPath = Paths.get(stagingDir);
+            Files.createDirectories(stagingPath);
+            staged = Files.createTempFile(stagingPath, "upload-", ".tmp");
+            MessageDigest digest = contentAddressed ? sha256() : null;
+            long size = copyWithLimit(header, content, staged, digest, deadline);
+
+            // 3~6. 다 받은 파일의 검사/저장만 동시 처리 수 제한
+            acquireUploadPermit();
+            try {
+                return store(staged, imageType, size, digest, ownerId);
+            } finally {
+                uploadPermits.release();
+            }
+        } finally {
+            if (staged != null) {
+                Files.deleteIfExists(staged);
+            }
         }
+    }
 
-        // 6. 파일 저장
-        Path filePath = uploadPath.resolve(storedFilename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+    // 다 받은 임시 파일 검사 후 저장소로 이동, URL 반환
+    private String store(Path staged, ImageType imageType, long size, MessageDigest digest, Long ownerId)
+            throws IOException {
+        if (!imageVariantService.withinPixelLimit(staged)) {
+            throw new BadRequestException("이미지 해상도가 너무 큽니다");
+        }
 
-        // 7. 접근 가능한 URL 반환
-        return "/api/upload/profiles/" + storedFilename;
+        // 3. 파일명 생성 (내용 주소 모드: SHA-256, 기본: UUID) + 판별된 포맷의 확장자
+        String storedFilename;
+        boolean created;
+        if (contentAddressed) {
+            storedFilename = HexFormat.of().formatHex(digest.digest()) + "." + imageType.extension();
+            // 4. 업로드한 사용자 참조 추가, 처음 보는 내용일 때만 저장소로 이동
+            created = storedFileService.storeContentAddressed(
+                    storedFilename, staged, size, imageType.contentType(), ownerId);
+        } else {
+            storedFilename = UUID.randomUUID() + "." + imageType.extension();
+            // 4. 저장소로 이동 (로컬은 원자적 rename, S3 는 업로드) + 업로드한 사용자 참조 추가
+            storedFileService.storeOwned(storedFilename, staged, imageType.contentType(), ownerId);
+            created = true;
+        }
+
+        // 5. 리사이즈 변형본 비동기 생성 (응답은 기다리지 않음, 중복 업로드면 이미 있음)
+        if (created) {
+            try {
+                imageVariantService.generateVariants(storedFilename);
+            } catch (TaskRejectedException e) {
+                log.warn("Image variant queue is full, serving original only: {}", storedFilename);
+            }
+        }
+
+        // 6. 접근 가능한 URL 반환
+        return PROFILE_URL_PREFIX + storedFilename;
+    }
+
+    private void acquireUploadPermit() {
+        try {
+            if (!uploadPermits.tryAcquire(uploadAcquireTimeout, TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("업로드 요청이 많습니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("업로드가 중단되었습니다", e);
+        }
+    }
+
+    // 임시 파일로 복사하면서 (digest 가 있으면) 해시 계산, 복사한 바이트 수 반환
+    // 한 번의 read 가 멈추는 시간은 server.tomcat.connection-timeout 으로 제한되고, 전체 시간은 deadline 으로 제한
+    private long copyWithLimit(byte[] header, InputStream content, Path target, MessageDigest digest,
+                               long deadline) throws IOException {
+        OutputStream file = Files.newOutputStream(target);
+        try (OutputStream out = digest != null ? new DigestOutputStream(file, digest) : file) {
+            out.write(header);
+            long total = header.length;
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                total += read;
+                if (total > maxFileSize) {
+                    throw tooLarge();
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    throw new BadRequestException("업로드 시간이 초과되었습니다");
+                }
+                out.write(buffer, 0, read);
+            }
+            return total;
+        }
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private BadRequestException tooLarge() {
+        return new BadRequestException("파일 크기는 " + (maxFileSize / (1024 * 1024)) + "MB를 초과할 수 없습니다");
     }
 
     /**
-     * 파일 삭제
+     * 업로드한 이미지를 프로필 이미지로 연결 (연결되지 않은 업로드는 file.unattached-ttl 후 해제)
+     * 다른 사용자가 올린 파일이거나 외부 URL 이면 아무것도 하지 않는다.
      */
-    public void deleteFile(String fileUrl) throws IOException {
-        if (fileUrl == null || fileUrl.isEmpty()) {
-            return;
+    public void attachFile(String fileUrl, Long userId) {
+        String filename = uploadedFilename(fileUrl);
+        if (filename != null) {
+            storedFileService.attach(filename, userId);
         }
+    }
 
-        // URL에서 파일명 추출
-        String filename = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
-        Path filePath = Paths.get(uploadDir).resolve(filename);
+    /**
+     * 사용자가 가진 업로드 참조 해제 (마지막 참조면 커밋 후 원본/변형본 삭제)
+     * 사용자가 올리지 않은 파일은 URL 을 알더라도 해제/삭제하지 않는다.
+     */
+    public void releaseFile(String fileUrl, Long userId) {
+        String filename = uploadedFilename(fileUrl);
+        if (filename != null) {
+            storedFileService.release(filename, userId);
+        }
+    }
 
-        // 파일 존재 시 삭제
-        Files.deleteIfExists(filePath);
+    // 업로드한 파일이 아니면 null (OAuth 프로필 이미지 등 외부 URL)
+    private String uploadedFilename(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith(PROFILE_URL_PREFIX)) {
+            return null;
+        }
+        return fileUrl.substring(PROFILE_URL_PREFIX.length());
     }
-}
\ No newline at end of file
+}
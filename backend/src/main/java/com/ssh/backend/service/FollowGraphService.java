@@ -0,0 +1,224 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.event.FollowChangedEvent;
+import com.ssh.backend.util.SortedLongSet;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 팔로우 그래프
+ * 사용자별 팔로잉/팔로워 ID 를 정렬된 long[] (SortedLongSet) 으로 들고 있어
+ * 팔로우 여부는 이진 탐색, "내가 팔로우하는 사람 중 이 사용자를 팔로우하는 사람" 은 정렬 배열 교집합으로 답한다.
+ * 시작 시 follows 테이블을 스트리밍해 적재하고, 팔로우 변경 이벤트(커밋 후)로 갱신한다. (인스턴스별 그래프)
+ * 다른 인스턴스의 변경은 이벤트로 받지 못하므로 refresh-interval 마다 다시 적재한다.
+ * 그만큼 늦을 수 있으므로 팔로우 설정/해제 판단이나 팔로우 버튼 상태는 이 그래프가 아니라 DB 로 확인한다.
+ * 변경은 사용자 항목 단위(ConcurrentHashMap.compute)로만 직렬화하고, 적재 결과로 맵을 바꿀 때만 모든 변경을 잠시 막는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowGraphService {
+
+    // ConcurrentHashMap 항목(노드 + Long 키 + 테이블 슬롯) 대략치
+    private static final long MAP_ENTRY_BYTES = 64;
+    // HashSet<Long> 원소당 대략치 (HashMap 노드 32 + Long 16 + 테이블 슬롯), 비교용
+    private static final long BOXED_ELEMENT_BYTES = 59;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${follow-graph.fetch-size}")
+    private int fetchSize;
+
+    private volatile Map<Long, SortedLongSet> following = new ConcurrentHashMap<>();
+    private volatile Map<Long, SortedLongSet> followers = new ConcurrentHashMap<>();
+
+    // 변경 반영은 read 잠금(서로 동시 진행), 적재 시작/맵 교체는 write 잠금
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 적재 중 들어온 변경 (적재 결과에 다시 적용)
+    private Queue<FollowChangedEvent> changesDuringLoad;
+
+    @PostConstruct
+    public void load() {
+        swapLock.writeLock().lock();
+        try {
+            changesDuringLoad = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        long start = System.nanoTime();
+        Map<Long, SortedLongSet> loadedFollowing =
+                loadAdjacency("SELECT follower_id, following_id FROM follows ORDER BY follower_id, following_id");
+        Map<Long, SortedLongSet> loadedFollowers =
+                loadAdjacency("SELECT following_id, follower_id FROM follows ORDER BY following_id, follower_id");
+
+        swapLock.writeLock().lock();
+        try {
+            following = loadedFollowing;
+            followers = loadedFollowers;
+            changesDuringLoad.forEach(this::apply);
+            changesDuringLoad = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Stats stats = stats();
+        log.info("Loaded follow graph in {} ms: {} edges, {} KB (boxed HashSet<Long> estimate {} KB)",
+                (System.nanoTime() - start) / 1_000_000, stats.edges(),
+                stats.memoryBytes() / 1024, stats.boxedEstimateBytes() / 1024);
+    }
+
+    /**
+     * 다른 인스턴스의 팔로우 변경 반영 (지연 상한 = refresh-interval)
+     */
+    @Scheduled(fixedDelayString = "${follow-graph.refresh-interval}",
+            initialDelayString = "${follow-graph.refresh-interval}")
+    public void refresh() {
+        load();
+    }
+
+    public boolean isFollowing(Long followerId, Long followingId) {
+        SortedLongSet set = following.get(followerId);
+        return set != null && set.contains(followingId);
+    }
+
+    public int followingCount(Long userId) {
+        SortedLongSet set = following.get(userId);
+        return set == null ? 0 : set.size();
+    }
+
+    public int followersCount(Long userId) {
+        SortedLongSet set = followers.get(userId);
+        return set == null ? 0 : set.size();
+    }
+
+    /**
+     * viewer 가 팔로우하는 사람 중 target 을 팔로우하는 사람 (ID 오름차순, 최대 limit 명)
+     */
+    public long[] followedByFollowing(Long viewerId, Long targetId, int limit) {
+        SortedLongSet viewerFollowing = following.get(viewerId);
+        SortedLongSet targetFollowers = followers.get(targetId);
+        if (viewerFollowing == null || targetFollowers == null) {
+            return new long[0];
+        }
+        return viewerFollowing.intersect(targetFollowers, limit);
+    }
+
+    /**
+     * followedByFollowing 의 전체 수 (결과 배열 없이 셈)
+     */
+    public int countFollowedByFollowing(Long viewerId, Long targetId) {
+        SortedLongSet viewerFollowing = following.get(viewerId);
+        SortedLongSet targetFollowers = followers.get(targetId);
+        if (viewerFollowing == null || targetFollowers == null) {
+            return 0;
+        }
+        return viewerFollowing.intersectCount(targetFollowers);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowChanged(FollowChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            apply(event);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메모리 사용량 (정렬 배열 + 맵 항목 대략치) 과 같은 그래프를 HashSet&lt;Long&gt; 으로 들고 있을 때의 추정치
+     */
+    public Stats stats() {
+        long edges = 0;
+        long memoryBytes = 0;
+        long boxedBytes = 0;
+        for (Map<Long, SortedLongSet> adjacency : List.of(following, followers)) {
+            for (SortedLongSet set : adjacency.values()) {
+                edges += set.size();
+                memoryBytes += MAP_ENTRY_BYTES + set.sizeInBytes();
+                boxedBytes += MAP_ENTRY_BYTES + 48 + set.size() * BOXED_ELEMENT_BYTES;
+            }
+        }
+        return new Stats(edges / 2, memoryBytes, boxedBytes);
+    }
+
+    // 호출자가 swapLock 을 잡고 호출 (사용자별 집합 교체는 compute 로 원자적)
+    private void apply(FollowChangedEvent event) {
+        update(following, event.followerId(), event.followingId(), event.following());
+        update(followers, event.followingId(), event.followerId(), event.following());
+    }
+
+    private static void update(Map<Long, SortedLongSet> adjacency, Long userId, long otherId, boolean add) {
+        adjacency.compute(userId, (id, set) -> {
+            SortedLongSet current = set == null ? SortedLongSet.empty() : set;
+            SortedLongSet next = add ? current.with(otherId) : current.without(otherId);
+            return next.size() == 0 ? null : next;
+        });
+    }
+
+    // (key, value) 가 key 순으로 정렬된 결과를 스트리밍하며 key 별 배열로 묶음
+    private Map<Long, SortedLongSet> loadAdjacency(String sql) {
+        Map<Long, SortedLongSet> adjacency = new ConcurrentHashMap<>();
+        Group group = new Group();
+        // 커서 기반 스트리밍은 트랜잭션(autocommit off) 안에서만 동작
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            long key = resultSet.getLong(1);
+            if (group.size > 0 && key != group.key) {
+                group.flushInto(adjacency);
+            }
+            group.key = key;
+            group.add(resultSet.getLong(2));
+        }));
+        if (group.size > 0) {
+            group.flushInto(adjacency);
+        }
+        return adjacency;
+    }
+
+    public record Stats(long edges, long memoryBytes, long boxedEstimateBytes) {
+    }
+
+    private static final class Group {
+        private long key;
+        private long[] values = new long[64];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void flushInto(Map<Long, SortedLongSet> adjacency) {
+            adjacency.put(key, SortedLongSet.of(Arrays.copyOf(values, size)));
+            size = 0;
+        }
+    }
+}
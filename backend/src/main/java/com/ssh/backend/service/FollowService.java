@@ -1,19 +1,29 @@
 package com.ssh.backend.service;
 
 import com.ssh.backend.dto.FollowResponse;
+import com.ssh.backend.dto.FollowedByResponse;
 import com.ssh.backend.dto.UserResponse;
-import com.ssh.backend.entity.Follow;
 import com.ssh.backend.entity.User;
+import com.ssh.backend.event.FollowChangedEvent;
 import com.ssh.backend.exception.BadRequestException;
 import com.ssh.backend.exception.ResourceNotFoundException;
 import com.ssh.backend.repository.FollowRepository;
 import com.ssh.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,46 +32,84 @@ public class FollowService {
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
     private final AuthenticationService authenticationService;
+    private final TimelineService timelineService;
+    private final FollowGraphService followGraphService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    //팔로우 토글
+    //팔로우 토글 (DB 기준: 관계가 있으면 삭제, 없으면 추가하는 한 문장)
 
     public FollowResponse toggleFollow(Long userId) {
+        Long currentUserId = validateTarget(userId);
 
-       User currentUser =  authenticationService.getCurrentUser();
+        // DELETE ... RETURNING, 없었으면 INSERT ... ON CONFLICT DO NOTHING + 양쪽 카운터 증감 (한 번의 왕복)
+        FollowRepository.FollowToggle change = followRepository.toggle(currentUserId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("대상 사용자를 찾을 수 없습니다"));
+        afterChange(currentUserId, userId, change.getFollowing(), change);
+        return toFollowResponse(change.getFollowing(), change);
+    }
 
-        User targetUser = userRepository.findById(userId)
-                .orElseThrow(()->  new ResourceNotFoundException("대상 사용자를 찾을 수 없습니다"));
+    /**
+     * 팔로우 설정 (이미 팔로우 중이면 그대로)
+     */
+    public FollowResponse follow(Long userId) {
+        return follow(validateTarget(userId), userId);
+    }
+
+    /**
+     * 팔로우 해제 (팔로우 중이 아니면 그대로)
+     */
+    public FollowResponse unfollow(Long userId) {
+        return unfollow(validateTarget(userId), userId);
+    }
+
+    private Long validateTarget(Long userId) {
+        Long currentUserId = authenticationService.getCurrentUserId();
 
         // 자기 자신 팔로우 방지
-        if (currentUser.getId().equals(targetUser.getId())) {
+        if (currentUserId.equals(userId)) {
             throw new BadRequestException("자기 자신을 팔로우할 수 없습니다");
         }
+        return currentUserId;
+    }
+
+    private FollowResponse follow(Long currentUserId, Long userId) {
+        // INSERT ... ON CONFLICT DO NOTHING + 양쪽 카운터 증가 (한 번의 왕복)
+        FollowRepository.FollowChange change = followRepository.follow(currentUserId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("대상 사용자를 찾을 수 없습니다"));
+        afterChange(currentUserId, userId, true, change);
+        return toFollowResponse(true, change);
+    }
+
+    private FollowResponse unfollow(Long currentUserId, Long userId) {
+        // DELETE ... RETURNING + 양쪽 카운터 감소 (한 번의 왕복)
+        FollowRepository.FollowChange change = followRepository.unfollow(currentUserId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("대상 사용자를 찾을 수 없습니다"));
+        afterChange(currentUserId, userId, false, change);
+        return toFollowResponse(false, change);
+    }
 
-        //이미 팔로우했는지 확인
-        boolean isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, targetUser);
-
-        if (isFollowing) {
-            followRepository.deleteByFollowerAndFollowing(currentUser, targetUser);
-            isFollowing= false;
-        }else {
-            Follow follow = Follow.builder()
-                    .follower(currentUser)
-                    .following(targetUser)
-                    .build();
-            followRepository.save(follow);
-            isFollowing = true;
+    // 실제로 관계가 추가/삭제된 경우에만 타임라인 갱신 + 이벤트 발행
+    private void afterChange(Long currentUserId, Long userId, boolean following, FollowRepository.FollowChange change) {
+        if (!change.getChanged()) {
+            return;
+        }
+        if (following) {
+            timelineService.onFollow(currentUserId, userId);
+        } else {
+            timelineService.onUnfollow(currentUserId, userId);
         }
-        Long followersCount = followRepository.countFollowers(targetUser);
-        Long followingCount = followRepository.countFollowing(targetUser);
+        eventPublisher.publishEvent(
+                new FollowChangedEvent(currentUserId, userId, following, change.getFollowersCount()));
+    }
 
+    private FollowResponse toFollowResponse(boolean isFollowing, FollowRepository.FollowChange change) {
         return FollowResponse.builder()
                 .isFollowing(isFollowing)
-                .followerCount(followersCount)
-                .followingCount(followingCount)
+                .followerCount(change.getFollowersCount())
+                .followingCount(change.getFollowingCount())
                 .build();
-
-
     }
+
     /**
      * 팔로워 목록 조회
      */
@@ -71,12 +119,11 @@ public class FollowService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         Page<User> followers = followRepository.findFollowers(user, pageable);
-        User currentUser = authenticationService.getCurrentUser();
+        Long currentUserId = authenticationService.getCurrentUserId();
 
-        return followers.map(follower -> {
-            boolean isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, user);
-            return mapToUserResponse(follower, isFollowing);
-        });
+        // 현재 사용자가 목록의 각 사용자를 팔로우하는지
+        Set<Long> followingIds = followingAmong(currentUserId, followers.getContent());
+        return followers.map(follower -> mapToUserResponse(follower, followingIds.contains(follower.getId())));
 
     }
 
@@ -90,17 +137,14 @@ public class FollowService {
 
         boolean isFollowing =false;
         if (!currentUser.getId().equals(targetUser.getId())) {
-            isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, targetUser);
+            isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(currentUser.getId(), targetUser.getId());
 
         }
 
-        Long followersCount = followRepository.countFollowers(targetUser);
-        Long followingCount = followRepository.countFollowing(targetUser);
-
         return FollowResponse.builder()
                 .isFollowing(isFollowing)
-                .followerCount(followersCount)
-                .followingCount(followingCount)
+                .followerCount(targetUser.getFollowersCount())
+                .followingCount(targetUser.getFollowingCount())
                 .build();
     }
 
@@ -114,21 +158,47 @@ public class FollowService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         Page<User> following = followRepository.findFollowing(user, pageable);
-        User currentUser = authenticationService.getCurrentUser();
+        Long currentUserId = authenticationService.getCurrentUserId();
 
-        return following.map(followedUser -> {
-            boolean isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, user);
-            return mapToUserResponse(followedUser, isFollowing);
-        });
+        Set<Long> followingIds = followingAmong(currentUserId, following.getContent());
+        return following.map(followedUser ->
+                mapToUserResponse(followedUser, followingIds.contains(followedUser.getId())));
 
     }
 
 
 
-    private UserResponse mapToUserResponse(User user, boolean isFollowing) {
-        Long followersCount = followRepository.countFollowers(user);
-        Long followingCount = followRepository.countFollowing(user);
+    private Set<Long> followingAmong(Long currentUserId, List<User> users) {
+        if (users.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(followRepository.findFollowingIdsAmong(
+                currentUserId, users.stream().map(User::getId).toList()));
+    }
+
+    /**
+     * 내가 팔로우하는 사람 중 이 사용자를 팔로우하는 사람 (총 인원 + 최대 limit 명)
+     * 메모리 그래프 기준이라 다른 인스턴스의 변경은 follow-graph.refresh-interval 안에 반영된다.
+     */
+    @Transactional(readOnly = true)
+    public FollowedByResponse getFollowedBy(Long userId, int limit) {
+        Long currentUserId = authenticationService.getCurrentUserId();
+        long[] ids = followGraphService.followedByFollowing(currentUserId, userId, Math.max(0, Math.min(limit, 50)));
+
+        Map<Long, User> usersById = userRepository.findAllById(Arrays.stream(ids).boxed().toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<UserResponse> users = Arrays.stream(ids)
+                .filter(usersById::containsKey)
+                .mapToObj(id -> mapToUserResponse(usersById.get(id), true))
+                .toList();
+
+        return FollowedByResponse.builder()
+                .count(followGraphService.countFollowedByFollowing(currentUserId, userId))
+                .users(users)
+                .build();
+    }
 
+    private UserResponse mapToUserResponse(User user, boolean isFollowing) {
         return UserResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
@@ -136,8 +206,8 @@ public class FollowService {
                 .fullName(user.getFullName())
                 .profileImageUrl(user.getProfileImageUrl())
                 .bio(user.getBio())
-                .followersCount(followersCount)
-                .followingCount(followingCount)
+                .followersCount(user.getFollowersCount())
+                .followingCount(user.getFollowingCount())
                 .isFollowing(isFollowing)
                 .build();
     }
@@ -0,0 +1,187 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.storage.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.geometry.Positions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 프로필 이미지 리사이즈 변형본 생성/선택
+ * 원본 업로드가 끝난 뒤 별도 워커 풀에서 고정 크기(48/150/512px) 정사각 변형본을 만든다.
+ * 원본은 헤더의 가로/세로로 픽셀 수 상한(file.max-pixels)을 먼저 확인한 뒤 한 번만 디코딩한다.
+ * 파일명 규칙: {원본이름}_{크기}.{jpg|png|webp}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    public static final int[] SIZES = {48, 150, 512};
+
+    private static final String WEBP = "webp";
+
+    // WebP writer(ImageIO 플러그인)가 클래스패스에 있을 때만 WebP 변형본 생성
+    private static final boolean WEBP_AVAILABLE = ImageIO.getImageWritersByFormatName(WEBP).hasNext();
+
+    private final StorageBackend storageBackend;
+
+    // 디코딩을 허용하는 최대 픽셀 수 (작은 파일로 큰 비트맵을 만드는 압축 폭탄 방지)
+    @Value("${file.max-pixels}")
+    private long maxPixels;
+
+    @Async("imageExecutor")
+    public void generateVariants(String storedFilename) {
+        Path downloaded = null;
+        try {
+            // 로컬 저장소면 원본을 바로 읽고, 원격 저장소면 임시 파일로 내려받아 처리
+            Optional<Path> localPath = storageBackend.localPath(storedFilename);
+            Path original;
+            if (localPath.isPresent()) {
+                original = localPath.get();
+            } else {
+                downloaded = Files.createTempFile("variant-src-", null);
+                try (InputStream content = storageBackend.open(storedFilename)) {
+                    Files.copy(content, downloaded, StandardCopyOption.REPLACE_EXISTING);
+                }
+                original = downloaded;
+            }
+
+            if (!withinPixelLimit(original)) {
+                log.warn("Skipping variants for {}: image exceeds {} pixels", storedFilename, maxPixels);
+                return;
+            }
+
+            // 원본은 한 번만 디코딩 (EXIF 회전 반영), 모든 변형본은 이 이미지에서 만든다
+            BufferedImage source = Thumbnails.of(original.toFile()).scale(1.0).asBufferedImage();
+            String format = variantFormat(storedFilename);
+            for (int size : SIZES) {
+                writeVariant(source, storedFilename, size, format);
+                if (WEBP_AVAILABLE) {
+                    writeVariant(source, storedFilename, size, WEBP);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 변형본이 없으면 원본을 그대로 서빙하므로 실패해도 업로드에는 영향 없음
+            log.warn("Failed to generate variants for {}", storedFilename, e);
+        } finally {
+            deleteQuietly(downloaded);
+        }
+    }
+
+    /**
+     * 헤더의 가로 x 세로가 file.max-pixels 이하인지 (픽셀 데이터는 디코딩하지 않음)
+     * 읽을 수 있는 ImageIO reader 가 없으면 true (변형본 생성 단계에서 디코딩되지 않음)
+     */
+    public boolean withinPixelLimit(Path image) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(image.toFile())) {
+            if (input == null) {
+                return true;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return true;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return (long) reader.getWidth(0) * reader.getHeight(0) <= maxPixels;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 요청 크기 이상인 가장 작은 변형본 (없으면 empty → 원본 사용)
+     */
+    public Optional<String> resolveVariant(String storedFilename, int requestedSize, boolean acceptWebp) throws IOException {
+        int size = SIZES[SIZES.length - 1];
+        for (int candidate : SIZES) {
+            if (candidate >= requestedSize) {
+                size = candidate;
+                break;
+            }
+        }
+
+        if (acceptWebp && WEBP_AVAILABLE) {
+            String webp = variantFilename(storedFilename, size, WEBP);
+            if (storageBackend.exists(webp)) {
+                return Optional.of(webp);
+            }
+        }
+        String variant = variantFilename(storedFilename, size, variantFormat(storedFilename));
+        return storageBackend.exists(variant) ? Optional.of(variant) : Optional.empty();
+    }
+
+    /**
+     * 원본에 딸린 모든 변형본 파일명 (삭제용)
+     */
+    public List<String> variantFilenames(String storedFilename) {
+        List<String> filenames = new ArrayList<>();
+        for (int size : SIZES) {
+            filenames.add(variantFilename(storedFilename, size, variantFormat(storedFilename)));
+            filenames.add(variantFilename(storedFilename, size, WEBP));
+        }
+        return filenames;
+    }
+
+    private void writeVariant(BufferedImage source, String storedFilename, int size, String format) throws IOException {
+        Path temp = Files.createTempFile("variant-", "." + format);
+        try {
+            Thumbnails.of(source)
+                    .size(size, size)
+                    .crop(Positions.CENTER)
+                    .outputFormat(format)
+                    .toFile(temp.toFile());
+            // 저장소가 임시 파일 -> 최종 키로 원자적으로 교체하므로 반쯤 쓰인 변형본은 서빙되지 않음
+            storageBackend.storeFile(variantFilename(storedFilename, size, format), temp,
+                    "image/" + (format.equals("jpg") ? "jpeg" : format));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private String variantFilename(String storedFilename, int size, String format) {
+        int dot = storedFilename.lastIndexOf('.');
+        String base = dot > 0 ? storedFilename.substring(0, dot) : storedFilename;
+        return base + "_" + size + "." + format;
+    }
+
+    // 투명도가 있을 수 있는 포맷은 png, 나머지는 jpg
+    private String variantFormat(String storedFilename) {
+        String lower = storedFilename.toLowerCase();
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            return "jpg";
+        }
+        return "png";
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Failed to delete temp file {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.ssh.backend.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 좋아요 write-behind 의도의 append-only 로그 (세그먼트 단위)
+ * 응답 전에 기록하고, 해당 세그먼트의 내용이 DB 에 반영되면 세그먼트를 지운다.
+ * append 는 메모리 대기열에 순서만 정하고, sync 에서 먼저 들어온 호출이 대기열 전체를 한 번에 쓰고 fsync 한다. (group commit)
+ * 레코드: userId(8) + postId(8) + liked(1)
+ */
+public class LikeIntentLog implements Closeable {
+
+    private static final int RECORD_SIZE = 17;
+    private static final String PREFIX = "likes-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final boolean fsync;
+    private final List<Path> previousSegments;
+
+    // 대기열 (pending, appended 는 this 로 동기화)
+    private List<Entry> pending = new ArrayList<>();
+    private long appended;
+    // 파일에 쓴 마지막 번호
+    private volatile long durable;
+
+    // 세그먼트 파일 쓰기/전환 (current, currentPath, sequence)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long sequence;
+    private Path currentPath;
+    private FileChannel current;
+
+    public LikeIntentLog(Path directory, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        Files.createDirectories(directory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            previousSegments = files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        sequence = previousSegments.isEmpty() ? 0 : sequenceOf(previousSegments.get(previousSegments.size() - 1));
+        openNext();
+    }
+
+    /**
+     * 지난 실행에서 남은 (DB 반영이 확인되지 않은) 세그먼트
+     */
+    public List<Path> previousSegments() {
+        return previousSegments;
+    }
+
+    /**
+     * 남은 세그먼트의 레코드를 기록 순서대로 읽음 (기록 중 끊긴 마지막 레코드는 버림)
+     */
+    public List<Entry> readPreviousSegments() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        for (Path segment : previousSegments) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+            while (buffer.remaining() >= RECORD_SIZE) {
+                entries.add(new Entry(buffer.getLong(), buffer.getLong(), buffer.get() == 1));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 레코드를 대기열에 추가 (디스크 I/O 없음, 호출 순서가 로그 순서)
+     *
+     * @return sync 에 넘길 번호
+     */
+    public synchronized long append(long userId, long postId, boolean liked) {
+        pending.add(new Entry(userId, postId, liked));
+        return ++appended;
+    }
+
+    /**
+     * ticket 까지의 레코드가 파일에 기록될 때까지 대기
+     * 이미 다른 호출이 함께 기록했으면 바로 반환한다.
+     */
+    public void sync(long ticket) throws IOException {
+        if (durable >= ticket) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (durable < ticket) {
+                writePending();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 대기열을 현재 세그먼트에 쓰고 닫은 뒤 새 세그먼트로 전환
+     *
+     * @return 닫힌 세그먼트 (DB 반영 후 삭제)
+     */
+    public Path rotate() throws IOException {
+        writeLock.lock();
+        try {
+            writePending();
+            Path sealed = currentPath;
+            current.close();
+            openNext();
+            return sealed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void delete(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            writePending();
+            current.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 대기열 전체를 한 번에 쓰고 fsync (writeLock 보유), 실패하면 대기열에 되돌려 다음 sync 에서 다시 씀
+    private void writePending() throws IOException {
+        List<Entry> batch;
+        long last;
+        synchronized (this) {
+            batch = pending;
+            last = appended;
+            pending = new ArrayList<>();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(batch.size() * RECORD_SIZE);
+            for (Entry entry : batch) {
+                buffer.putLong(entry.userId()).putLong(entry.postId()).put((byte) (entry.liked() ? 1 : 0));
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                current.write(buffer);
+            }
+            if (fsync) {
+                current.force(false);
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                batch.addAll(pending);
+                pending = batch;
+            }
+            throw e;
+        }
+        durable = last;
+    }
+
+    private void openNext() throws IOException {
+        sequence++;
+        currentPath = directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+        current = FileChannel.open(currentPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    public record Entry(long userId, long postId, boolean liked) {
+    }
+}
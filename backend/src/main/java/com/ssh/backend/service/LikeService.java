@@ -1,18 +1,17 @@
 package com.ssh.backend.service;
 
-import com.ssh.backend.dto.PostResponse;
-import com.ssh.backend.entity.Like;
-import com.ssh.backend.entity.Post;
-import com.ssh.backend.entity.User;
+import com.ssh.backend.dto.LikeResponse;
+import com.ssh.backend.event.LikeChangedEvent;
 import com.ssh.backend.exception.BadRequestException;
 import com.ssh.backend.repository.LikeRepository;
 import com.ssh.backend.repository.PostRepository;
-import com.ssh.backend.repository.UserRepository;
-import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -20,37 +19,73 @@ public class LikeService {
 
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
     private final AuthenticationService authenticationService;
-
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikedPostsCache likedPostsCache;
+    // likes.write-behind.enabled=true 일 때만 존재
+    private final Optional<LikeWriteBehindBuffer> writeBehind;
 
     /**
      * 좋아요 토글 (누르면 좋아요, 다시 누르면 취소)
+     * 삭제를 시도하고 지운 행이 없으면 추가하는 한 문장으로 실행하므로 동시에 눌러도 제약 조건 위반이 나지 않는다.
      */
-    public boolean toggleLike(Long postId) {
-        User currentUser = authenticationService.getCurrentUser(); //인증된 유저 확인
+    public LikeResponse toggleLike(Long postId) {
+        Long userId = authenticationService.getCurrentUserId(); //인증된 유저 확인
+        if (writeBehind.isPresent()) {
+            return buffer(writeBehind.get(), userId, postId, null);
+        }
+        // DELETE ... RETURNING, 없었으면 INSERT ... ON CONFLICT DO NOTHING + 카운터 증감 (한 번의 왕복)
+        return apply(userId, postId, likeRepository.toggle(userId, postId));
+    }
 
-        //삭제되어있지않은 포스트를 찾고 예외처리
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BadRequestException("Post not found"));
+    /**
+     * 좋아요 설정 (이미 좋아요 상태면 그대로)
+     */
+    public LikeResponse like(Long postId) {
+        Long userId = authenticationService.getCurrentUserId();
+        if (writeBehind.isPresent()) {
+            return buffer(writeBehind.get(), userId, postId, true);
+        }
+        // INSERT ... ON CONFLICT DO NOTHING + 카운터 증가 (한 번의 왕복)
+        return apply(userId, postId, likeRepository.like(userId, postId));
+    }
+
+    /**
+     * 좋아요 해제 (좋아요 상태가 아니면 그대로)
+     */
+    public LikeResponse unlike(Long postId) {
+        Long userId = authenticationService.getCurrentUserId();
+        if (writeBehind.isPresent()) {
+            return buffer(writeBehind.get(), userId, postId, false);
+        }
+        // DELETE ... RETURNING + 카운터 감소 (한 번의 왕복)
+        return apply(userId, postId, likeRepository.unlike(userId, postId));
+    }
 
-        //좋아요가 되어있는지 확인
-        boolean alreadyLiked = likeRepository.existsByUserAndPost(currentUser, post);
+    // 실제로 행이 추가/삭제된 경우에만 이벤트 발행 (이미 그 상태인 요청은 캐시를 건드리지 않음)
+    private LikeResponse apply(Long userId, Long postId, Optional<LikeRepository.LikeChange> result) {
+        LikeRepository.LikeChange change = result.orElseThrow(() -> new BadRequestException("Post not found"));
+        if (change.getChanged()) {
+            eventPublisher.publishEvent(new LikeChangedEvent(userId, postId, change.getLiked()));
+        }
+        return LikeResponse.builder()
+                .isLiked(change.getLiked())
+                .likeCount(change.getLikeCount())
+                .build();
+    }
 
-        //좋아요가 되어있으면
-        if (alreadyLiked) {
-            //좋아요 취소
-            likeRepository.deleteByUserAndPost(currentUser, post);
-            return false;
-        } else {
-            //안되어있으면 좋아요 표시
-            Like like = Like.builder()
-                    .user(currentUser)
-                    .post(post)
-                    .build();
-            likeRepository.save(like);
-            return true;
+    // write-behind: 의도만 버퍼에 기록하고 좋아요 수는 DB 값 + 반영 대기 증감으로 응답
+    private LikeResponse buffer(LikeWriteBehindBuffer buffer, Long userId, Long postId, Boolean liked) {
+        long likeCount = postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new BadRequestException("Post not found"));
+        LikeWriteBehindBuffer.Recorded recorded = buffer.record(userId, postId, liked);
+        if (recorded.changed()) {
+            eventPublisher.publishEvent(new LikeChangedEvent(userId, postId, recorded.liked()));
         }
+        return LikeResponse.builder()
+                .isLiked(recorded.liked())
+                .likeCount(likeCount + buffer.pendingDelta(postId))
+                .build();
     }
 
     /**
@@ -58,19 +93,27 @@ public class LikeService {
      */
     @Transactional(readOnly = true)
     public boolean isLikedByCurrentUser(Long postId) {
-        User currentUser = authenticationService.getCurrentUser();
+        Long currentUserId = authenticationService.getCurrentUserId();
 
-        //삭제되어있지않은 포스트를 찾고 예외처리
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BadRequestException("Post not found"));
+        //삭제되어있지않은 포스트인지 확인하고 예외처리
+        if (!postRepository.existsById(postId)) {
+            throw new BadRequestException("Post not found");
+        }
 
-        return likeRepository.existsByUserAndPost(currentUser, post);
+        Boolean pending = writeBehind.map(buffer -> buffer.pendingState(currentUserId, postId)).orElse(null);
+        if (pending != null) {
+            return pending;
+        }
+        return likedPostsCache.isLiked(currentUserId, postId);
     }
 
     //좋아요 개수 확인
     @Transactional(readOnly = true)
     public Long getLikeCount(Long postId) {
-        return likeRepository.countByPostId(postId);}
+        Long likeCount = postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> new BadRequestException("Post not found"));
+        return likeCount + writeBehind.map(buffer -> buffer.pendingDelta(postId)).orElse(0L);
+    }
 
 
 }
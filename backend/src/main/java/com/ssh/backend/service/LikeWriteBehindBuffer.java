@@ -0,0 +1,404 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.repository.LikeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 좋아요 write-behind 버퍼 (likes.write-behind.enabled=true)
+ * 좋아요/취소 의도를 스트라이프 단위 버퍼에 (사용자, 게시물)별 최종 상태로만 모아 두고,
+ * flush-interval 마다 배열 바인딩 문장 한 번에 chunk 단위로 반영한다.
+ * 반영 전까지 좋아요 수는 DB 값 + 버퍼의 증감분으로 응답한다.
+ * log-dir 을 지정하면 응답 전에 의도를 로그에 남기고(동시 기록은 한 번의 fsync 로 묶음), 재시작 시 남은 로그를 다시 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "likes.write-behind.enabled", havingValue = "true")
+public class LikeWriteBehindBuffer {
+
+    // 실제로 추가/삭제된 행 수로 카운터를 조정하므로 같은 의도를 다시 반영해도 안전하다
+    private static final String FLUSH_SQL = "WITH ins AS (" +
+            "  INSERT INTO likes (id, user_id, post_id, created_at) " +
+            "  SELECT nextval('like_ids_seq'), t.user_id, t.post_id, now() FROM unnest(?::bigint[], ?::bigint[]) AS t(user_id, post_id) " +
+            "  WHERE EXISTS (SELECT 1 FROM posts p WHERE p.id = t.post_id) " +
+            "  ON CONFLICT (user_id, post_id) DO NOTHING RETURNING post_id" +
+            "), del AS (" +
+            "  DELETE FROM likes l USING unnest(?::bigint[], ?::bigint[]) AS t(user_id, post_id) " +
+            "  WHERE l.user_id = t.user_id AND l.post_id = t.post_id RETURNING l.post_id" +
+            "), delta AS (" +
+            "  SELECT post_id, sum(d) AS d FROM (" +
+            "    SELECT post_id, 1 AS d FROM ins UNION ALL SELECT post_id, -1 AS d FROM del" +
+            "  ) changes GROUP BY post_id" +
+            ") " +
+            "UPDATE posts p SET like_count = p.like_count + delta.d " +
+            "FROM delta WHERE p.id = delta.post_id AND delta.d <> 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikeRepository likeRepository;
+    private final LikedPostsCache likedPostsCache;
+
+    @Value("${likes.write-behind.stripes}")
+    private int stripeCount;
+
+    @Value("${likes.write-behind.batch-size}")
+    private int batchSize;
+
+    @Value("${likes.write-behind.flush-interval}")
+    private long flushInterval;
+
+    // 비어 있으면 메모리에만 보관 (비정상 종료 시 반영 전 의도 유실)
+    @Value("${likes.write-behind.log-dir:}")
+    private String logDir;
+
+    @Value("${likes.write-behind.fsync}")
+    private boolean fsync;
+
+    // 의도 기록은 read lock, flush 의 드레인/완료 처리는 write lock
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+    // 드레인/완료 때마다 증가 (그 사이 읽은 DB 상태는 다시 확인)
+    private final AtomicLong flushVersion = new AtomicLong();
+    // 게시물별 아직 반영되지 않은 좋아요 수 증감
+    private final Map<Long, AtomicLong> pendingDeltas = new ConcurrentHashMap<>();
+    private final List<Path> sealedSegments = new ArrayList<>();
+
+    // 드레인되어 DB 에 쓰는 중인 의도
+    private volatile Map<LikeKey, Intent> inFlight = Map.of();
+    private Stripe[] stripes;
+    private LikeIntentLog intentLog;
+    // 공용 스케줄러(기본 단일 스레드)의 그래프 재적재/카운터 보정 뒤에 밀리지 않도록 flush 전용 스레드
+    private ScheduledExecutorService flushScheduler;
+
+    @PostConstruct
+    public void init() throws IOException {
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        if (!logDir.isBlank()) {
+            replay();
+        }
+
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "like-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    // 지난 실행에서 반영하지 못한 의도 복구
+    private void replay() throws IOException {
+        intentLog = new LikeIntentLog(Paths.get(logDir), fsync);
+        List<LikeIntentLog.Entry> entries = intentLog.readPreviousSegments();
+        if (entries.isEmpty()) {
+            intentLog.delete(intentLog.previousSegments());
+            return;
+        }
+
+        log.info("Replaying {} like intents from {}", entries.size(), logDir);
+        sealedSegments.addAll(intentLog.previousSegments());
+        for (LikeIntentLog.Entry entry : entries) {
+            record(entry.userId(), entry.postId(), entry.liked(), false);
+        }
+        flush();
+    }
+
+    /**
+     * 좋아요 상태 변경 의도 기록
+     *
+     * @param liked 원하는 상태 (null 이면 현재 상태를 뒤집음)
+     * @return 변경 후 좋아요 여부와 이번 기록으로 상태가 바뀌었는지
+     */
+    public Recorded record(Long userId, Long postId, Boolean liked) {
+        return record(userId, postId, liked, true);
+    }
+
+    /**
+     * 반영 대기 중인 좋아요 상태 (버퍼에 없으면 null → DB 값 사용)
+     */
+    public Boolean pendingState(Long userId, Long postId) {
+        LikeKey key = new LikeKey(userId, postId);
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Intent intent = stripe.intents.get(key);
+            if (intent != null) {
+                return intent.desired;
+            }
+        }
+        Intent flushing = inFlight.get(key);
+        return flushing != null ? flushing.desired : null;
+    }
+
+    /**
+     * 반영 대기 중인 좋아요 수 증감
+     */
+    public long pendingDelta(Long postId) {
+        AtomicLong delta = pendingDeltas.get(postId);
+        return delta != null ? delta.get() : 0L;
+    }
+
+    public synchronized void flush() {
+        // 1. 모든 스트라이프를 비우고 로그 세그먼트 전환
+        Map<LikeKey, Intent> batch = new HashMap<>();
+        flushLock.writeLock().lock();
+        try {
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    if (!stripe.intents.isEmpty()) {
+                        batch.putAll(stripe.intents);
+                        stripe.intents = new HashMap<>();
+                    }
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (intentLog != null) {
+                sealedSegments.add(intentLog.rotate());
+            }
+            inFlight = Collections.unmodifiableMap(batch);
+            flushVersion.incrementAndGet();
+        } catch (IOException e) {
+            log.warn("Failed to rotate like log, retrying on next flush", e);
+            batch.forEach(this::restore);
+            return;
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+
+        // 2. DB 반영 (락 없이), 커밋되지 않은 chunk 의 키
+        Set<LikeKey> unwritten = write(batch);
+
+        // 3. 반영분은 대기 증감에서 빼고, 반영되지 않은 의도만 버퍼로 되돌림
+        flushLock.writeLock().lock();
+        try {
+            batch.forEach((key, intent) -> {
+                if (unwritten.contains(key)) {
+                    restore(key, intent);
+                    return;
+                }
+                pendingDeltas.computeIfPresent(key.postId(), (postId, delta) ->
+                        delta.addAndGet(-intent.delta()) == 0 ? null : delta);
+                // 반영 전 DB 를 읽어 캐시된 좋아요 집합도 오버레이가 사라지기 전에 맞춤
+                likedPostsCache.apply(key.userId(), key.postId(), intent.desired);
+            });
+            inFlight = Map.of();
+            flushVersion.incrementAndGet();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+
+        // 되돌린 의도가 있으면 세그먼트를 남겨 둠 (이미 반영된 의도를 다시 반영해도 안전)
+        if (unwritten.isEmpty() && intentLog != null) {
+            try {
+                intentLog.delete(sealedSegments);
+                sealedSegments.clear();
+            } catch (IOException e) {
+                log.warn("Failed to delete flushed like log segments", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        flushScheduler.shutdown();
+        flushScheduler.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        if (intentLog != null) {
+            intentLog.close();
+        }
+    }
+
+    // 예외가 빠져나가면 이후 실행이 취소되므로 여기서 기록만 하고 다음 주기에 다시 시도
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Like flush failed, retrying on next flush", e);
+        }
+    }
+
+    private Recorded record(long userId, long postId, Boolean liked, boolean journal) {
+        LikeKey key = new LikeKey(userId, postId);
+        Stripe stripe = stripeFor(key);
+        while (true) {
+            long version = flushVersion.get();
+            Boolean buffered = bufferedBaseline(stripe, key);
+            boolean persisted = buffered != null ? buffered : likeRepository.existsByUser_IdAndPost_Id(userId, postId);
+
+            long ticket = 0;
+            Recorded result;
+            flushLock.readLock().lock();
+            try {
+                if (flushVersion.get() != version) {
+                    continue;
+                }
+                synchronized (stripe) {
+                    Intent intent = stripe.intents.get(key);
+                    boolean current = intent != null ? intent.desired : persisted;
+                    boolean desired = liked != null ? liked : !current;
+                    if (desired == current) {
+                        return new Recorded(desired, false);
+                    }
+
+                    // 락 안에서는 로그 순서만 정하고 (메모리), 쓰기/fsync 는 락 밖에서 묶어서 처리
+                    if (journal && intentLog != null) {
+                        ticket = intentLog.append(userId, postId, desired);
+                    }
+                    if (intent == null) {
+                        intent = new Intent(persisted);
+                        stripe.intents.put(key, intent);
+                    }
+                    int before = intent.delta();
+                    intent.desired = desired;
+                    pendingDeltas.computeIfAbsent(postId, id -> new AtomicLong()).addAndGet(intent.delta() - before);
+                    result = new Recorded(desired, true);
+                }
+            } finally {
+                flushLock.readLock().unlock();
+            }
+
+            // 응답 전에 로그에 기록될 때까지 대기 (실패하면 오류로 응답하지만 버퍼의 의도는 그대로 반영된다)
+            if (ticket > 0) {
+                try {
+                    intentLog.sync(ticket);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to append like intent", e);
+                }
+            }
+            return result;
+        }
+    }
+
+    // 버퍼 기준 DB 상태: 스트라이프에 있으면 그 기준값, 반영 중이면 반영될 값
+    private Boolean bufferedBaseline(Stripe stripe, LikeKey key) {
+        synchronized (stripe) {
+            Intent intent = stripe.intents.get(key);
+            if (intent != null) {
+                return intent.persisted;
+            }
+        }
+        Intent flushing = inFlight.get(key);
+        return flushing != null ? flushing.desired : null;
+    }
+
+    // 반영 실패한 의도 되돌리기 (그 사이 새 의도가 생겼으면 기준값만 원래대로)
+    private void restore(LikeKey key, Intent failed) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Intent newer = stripe.intents.get(key);
+            if (newer == null) {
+                stripe.intents.put(key, failed);
+            } else {
+                newer.persisted = failed.persisted;
+            }
+        }
+    }
+
+    // chunk 마다 별도 문장(자동 커밋), 실패하면 그 chunk 부터의 키를 반환 (앞 chunk 는 이미 반영됨)
+    private Set<LikeKey> write(Map<LikeKey, Intent> batch) {
+        // 게시물 순으로 정렬해 같은 게시물 행은 한 번에 갱신
+        List<Map.Entry<LikeKey, Intent>> changes = batch.entrySet().stream()
+                .filter(entry -> entry.getValue().delta() != 0)
+                .sorted(Comparator.comparingLong((Map.Entry<LikeKey, Intent> entry) -> entry.getKey().postId())
+                        .thenComparingLong(entry -> entry.getKey().userId()))
+                .toList();
+
+        for (int from = 0; from < changes.size(); from += batchSize) {
+            List<Map.Entry<LikeKey, Intent>> chunk = changes.subList(from, Math.min(changes.size(), from + batchSize));
+            List<Long> likeUsers = new ArrayList<>();
+            List<Long> likePosts = new ArrayList<>();
+            List<Long> unlikeUsers = new ArrayList<>();
+            List<Long> unlikePosts = new ArrayList<>();
+            for (Map.Entry<LikeKey, Intent> entry : chunk) {
+                if (entry.getValue().desired) {
+                    likeUsers.add(entry.getKey().userId());
+                    likePosts.add(entry.getKey().postId());
+                } else {
+                    unlikeUsers.add(entry.getKey().userId());
+                    unlikePosts.add(entry.getKey().postId());
+                }
+            }
+
+            try {
+                jdbcTemplate.update((Connection connection) -> {
+                    PreparedStatement statement = connection.prepareStatement(FLUSH_SQL);
+                    statement.setArray(1, connection.createArrayOf("bigint", likeUsers.toArray()));
+                    statement.setArray(2, connection.createArrayOf("bigint", likePosts.toArray()));
+                    statement.setArray(3, connection.createArrayOf("bigint", unlikeUsers.toArray()));
+                    statement.setArray(4, connection.createArrayOf("bigint", unlikePosts.toArray()));
+                    return statement;
+                });
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush {} of {} like intents, retrying on next flush",
+                        changes.size() - from, changes.size(), e);
+                Set<LikeKey> unwritten = new HashSet<>();
+                changes.subList(from, changes.size()).forEach(entry -> unwritten.add(entry.getKey()));
+                return unwritten;
+            }
+        }
+        return Set.of();
+    }
+
+    private Stripe stripeFor(LikeKey key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    /**
+     * 의도 기록 결과 (changed 가 false 면 이미 원하는 상태)
+     */
+    public record Recorded(boolean liked, boolean changed) {
+    }
+
+    private record LikeKey(long userId, long postId) {
+    }
+
+    private static final class Intent {
+        // 버퍼에 들어올 때의 DB 상태
+        private boolean persisted;
+        private boolean desired;
+
+        private Intent(boolean persisted) {
+            this.persisted = persisted;
+            this.desired = persisted;
+        }
+
+        // 반영 시 좋아요 수 변화량
+        private int delta() {
+            return (desired ? 1 : 0) - (persisted ? 1 : 0);
+        }
+    }
+
+    private static final class Stripe {
+        private Map<LikeKey, Intent> intents = new HashMap<>();
+    }
+}
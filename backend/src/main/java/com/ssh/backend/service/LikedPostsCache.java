@@ -0,0 +1,164 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.event.LikeChangedEvent;
+import com.ssh.backend.repository.LikeRepository;
+import com.ssh.backend.util.SortedLongSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * 사용자별 좋아요한 게시물 ID 집합 캐시 (isLiked 판정용)
+ * 처음 필요할 때 사용자의 좋아요 전체를 SortedLongSet 으로 적재하고, 이후 좋아요 변경 이벤트(커밋 후)와
+ * write-behind 반영(flush)으로 갱신한다. 다른 인스턴스의 변경은 받지 못하므로 ttl 이 지나면 다시 적재한다.
+ * 사용자 ID 로 나눈 세그먼트마다 따로 잠그는 LRU 맵을 두고(조회 스레드가 한 락에 몰리지 않게),
+ * 세그먼트 크기가 max-bytes / 세그먼트 수를 넘으면 그 세그먼트에서 가장 오래 쓰이지 않은 사용자부터 제거한다.
+ * 좋아요가 max-posts-per-user 개를 넘는 사용자는 "너무 큼" 표시만 캐시하고 DB 의 IN (...) 조회를 그대로 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LikedPostsCache {
+
+    // 적재 중 같은 스트라이프 사용자의 변경이 있었는지 확인하는 버전 (변경 시 적재 결과를 버림)
+    private static final int VERSION_STRIPES = 1024;
+    private static final int SEGMENTS = 16;
+    // 좋아요가 max-posts-per-user 를 넘는 사용자 표시 (ttl 동안 다시 적재하지 않음)
+    private static final SortedLongSet TOO_LARGE = SortedLongSet.of(new long[0]);
+
+    private final LikeRepository likeRepository;
+
+    @Value("${liked-cache.max-bytes}")
+    private long maxBytes;
+
+    @Value("${liked-cache.max-posts-per-user}")
+    private int maxPostsPerUser;
+
+    @Value("${liked-cache.ttl}")
+    private long ttlMillis;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Segment[] segments = IntStream.range(0, SEGMENTS)
+            .mapToObj(i -> new Segment())
+            .toArray(Segment[]::new);
+
+    /**
+     * 주어진 게시물 중 사용자가 좋아요한 게시물 ID
+     */
+    public Set<Long> likedAmong(Long userId, Collection<Long> postIds) {
+        SortedLongSet liked = getOrLoad(userId);
+        if (liked == null) {
+            return new HashSet<>(likeRepository.findLikedPostIds(userId, postIds));
+        }
+        Set<Long> result = new HashSet<>();
+        for (Long postId : postIds) {
+            if (liked.contains(postId)) {
+                result.add(postId);
+            }
+        }
+        return result;
+    }
+
+    public boolean isLiked(Long userId, Long postId) {
+        SortedLongSet liked = getOrLoad(userId);
+        if (liked == null) {
+            return likeRepository.existsByUser_IdAndPost_Id(userId, postId);
+        }
+        return liked.contains(postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        apply(event.userId(), event.postId(), event.liked());
+    }
+
+    /**
+     * 좋아요 상태 반영 (커밋 후 이벤트, write-behind flush 에서 호출)
+     * 진행 중인 적재 결과는 버리고, 캐시된 집합이 있으면 그 자리에서 고친다.
+     */
+    public void apply(Long userId, Long postId, boolean liked) {
+        versions.incrementAndGet(stripe(userId));
+        Segment segment = segmentFor(userId);
+        synchronized (segment) {
+            CachedLikes current = segment.likedByUser.get(userId);
+            if (current != null && current.liked() != TOO_LARGE) {
+                SortedLongSet next = liked ? current.liked().with(postId) : current.liked().without(postId);
+                store(segment, userId, new CachedLikes(next, current.expiresAt()));
+            }
+        }
+    }
+
+    // 캐시에 없거나 만료되었으면 DB 에서 적재 (상한 초과 사용자는 null)
+    private SortedLongSet getOrLoad(Long userId) {
+        Segment segment = segmentFor(userId);
+        synchronized (segment) {
+            CachedLikes cached = segment.likedByUser.get(userId);
+            if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.liked() == TOO_LARGE ? null : cached.liked();
+            }
+        }
+
+        long version = versions.get(stripe(userId));
+        List<Long> postIds = likeRepository.findPostIdsByUserId(userId, PageRequest.ofSize(maxPostsPerUser + 1));
+        SortedLongSet loaded = postIds.size() > maxPostsPerUser
+                ? TOO_LARGE
+                : SortedLongSet.of(postIds.stream().mapToLong(Long::longValue).toArray());
+
+        synchronized (segment) {
+            if (versions.get(stripe(userId)) == version) {
+                store(segment, userId, new CachedLikes(loaded, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return loaded == TOO_LARGE ? null : loaded;
+    }
+
+    // 호출자가 segment 로 동기화
+    private void store(Segment segment, Long userId, CachedLikes likes) {
+        CachedLikes previous = segment.likedByUser.put(userId, likes);
+        if (previous != null) {
+            segment.totalBytes -= previous.liked().sizeInBytes();
+        }
+        segment.totalBytes += likes.liked().sizeInBytes();
+
+        long segmentMaxBytes = maxBytes / SEGMENTS;
+        Iterator<Map.Entry<Long, CachedLikes>> eldest = segment.likedByUser.entrySet().iterator();
+        while (segment.totalBytes > segmentMaxBytes && eldest.hasNext()) {
+            Map.Entry<Long, CachedLikes> entry = eldest.next();
+            if (entry.getKey().equals(userId)) {
+                continue;
+            }
+            segment.totalBytes -= entry.getValue().liked().sizeInBytes();
+            eldest.remove();
+        }
+    }
+
+    private Segment segmentFor(Long userId) {
+        return segments[(int) Math.floorMod(userId, (long) SEGMENTS)];
+    }
+
+    private static int stripe(Long userId) {
+        return (int) Math.floorMod(userId, (long) VERSION_STRIPES);
+    }
+
+    /**
+     * 접근 순서 LRU 맵 + 바이트 합계 (모든 접근은 세그먼트 자신으로 동기화)
+     */
+    private static final class Segment {
+        private final LinkedHashMap<Long, CachedLikes> likedByUser = new LinkedHashMap<>(16, 0.75f, true);
+        private long totalBytes;
+    }
+
+    private record CachedLikes(SortedLongSet liked, long expiresAt) {
+    }
+}
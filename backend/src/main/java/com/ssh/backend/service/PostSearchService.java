@@ -0,0 +1,109 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.dto.CursorPageResponse;
+import com.ssh.backend.dto.PostResponse;
+import com.ssh.backend.dto.SearchCursor;
+import com.ssh.backend.entity.Post;
+import com.ssh.backend.exception.BadRequestException;
+import com.ssh.backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 전문 검색 (posts.search_vector, PostSearchIndexInitializer 참고)
+ * 검색어의 #해시태그/@멘션은 정확히 일치하는 토큰으로, 나머지는 단어 검색으로 처리해 모두 만족하는 게시물을 찾는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostSearchService {
+
+    // posts_search_vector() 의 '[#@][[:alnum:]_]+' 와 같은 규칙
+    private static final Pattern TAG = Pattern.compile("[#@][\\p{L}\\p{N}_]+");
+
+    private final PostRepository postRepository;
+    private final AuthenticationService authenticationService;
+    private final FeedHydrator feedHydrator;
+
+    // 순위를 매길 최대 일치 게시물 수 (최신순)
+    @Value("${search.max-candidates}")
+    private int maxCandidates;
+
+    public CursorPageResponse<PostResponse> search(String query, String cursor, int requestedSize) {
+        int size = CursorPageResponse.clampSize(requestedSize);
+        Long currentUserId = authenticationService.getCurrentUserId();
+
+        Set<String> tags = new LinkedHashSet<>();
+        Matcher matcher = TAG.matcher(query == null ? "" : query);
+        StringBuilder words = new StringBuilder();
+        while (matcher.find()) {
+            tags.add(matcher.group().toLowerCase(Locale.ROOT));
+            matcher.appendReplacement(words, " ");
+        }
+        matcher.appendTail(words);
+        if (tags.isEmpty() && words.toString().isBlank()) {
+            throw new BadRequestException("Search query is empty");
+        }
+        // 태그는 사전을 거치지 않는 lexeme 그대로 ('...' 인용, 패턴상 따옴표는 들어오지 않음)
+        String tagQuery = tags.stream()
+                .map(tag -> "'" + tag + "'")
+                .collect(Collectors.joining(" & "));
+
+        List<PostRepository.SearchHit> hits;
+        long maxId;
+        if (cursor == null || cursor.isBlank()) {
+            maxId = postRepository.findMaxId();
+            hits = postRepository.searchFirst(words.toString(), tagQuery, maxId, maxCandidates, size + 1);
+        } else {
+            SearchCursor after = SearchCursor.decode(cursor);
+            maxId = after.maxId();
+            hits = postRepository.searchAfter(words.toString(), tagQuery, after.rank(), after.id(), maxId,
+                    maxCandidates, size + 1);
+        }
+
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+        if (hits.isEmpty()) {
+            return CursorPageResponse.<PostResponse>builder()
+                    .content(List.of())
+                    .hasNext(false)
+                    .build();
+        }
+
+        // 관련도 순서 유지
+        Map<Long, Post> postsById = postRepository.findAllWithUserByIdIn(
+                        hits.stream().map(PostRepository.SearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = hits.stream()
+                .map(hit -> postsById.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostRepository.SearchHit last = hits.get(hits.size() - 1);
+            nextCursor = new SearchCursor(last.getRank(), last.getId(), maxId).encode();
+        }
+        return CursorPageResponse.<PostResponse>builder()
+                .content(feedHydrator.hydrate(posts, currentUserId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -1,18 +1,23 @@
 package com.ssh.backend.service;
 
+import com.ssh.backend.dto.CursorPageResponse;
+import com.ssh.backend.dto.FeedCursor;
 import com.ssh.backend.dto.PostRequest;
 import com.ssh.backend.dto.PostResponse;
 import com.ssh.backend.entity.Post;
 import com.ssh.backend.entity.User;
+import com.ssh.backend.event.FeedChangedEvent;
+import com.ssh.backend.event.PostCreatedEvent;
 import com.ssh.backend.exception.ResourceNotFoundException;
 import com.ssh.backend.exception.UnauthorizedException;
-import com.ssh.backend.repository.CommentRepository;
-import com.ssh.backend.repository.LikeRepository;
 import com.ssh.backend.repository.PostRepository;
 import com.ssh.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +29,9 @@ public class PostService {
     private final PostRepository postRepository;
     private final AuthenticationService authenticationService;
     private final UserRepository userRepository;
-    private final LikeRepository likeRepository;
-    private final CommentRepository commentRepository;
+    private final FeedHydrator feedHydrator;
+    private final TimelineService timelineService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //생성
     public PostResponse createPost(PostRequest request) {
@@ -38,6 +44,8 @@ public class PostService {
                 .build();
 
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(
+                new PostCreatedEvent(savedPost.getId(), currentUser.getId(), savedPost.getCreatedAt()));
 
         return PostResponse.from(savedPost);
 
@@ -46,52 +54,51 @@ public class PostService {
     //게시글 목록 조회
     @Transactional(readOnly = true)
     public Page<PostResponse> getPosts(Pageable pageable) {
-        User currentUser = authenticationService.getCurrentUser();
+        return getPosts(pageable, authenticationService.getCurrentUserId());
+    }
+
+    /**
+     * 게시글 목록 조회 (viewerId 가 null 이면 좋아요 여부 없이, 피드 캐시 생성용)
+     */
+    @Transactional(readOnly = true)
+    public Page<PostResponse> getPosts(Pageable pageable, Long viewerId) {
         Page<Post> posts = postRepository.findAllWithUser(pageable);
-        return posts.map(post -> {
-            PostResponse response = PostResponse.from(post);
-            Long likeCount = likeRepository.countByPostId(post.getId());
-            boolean isLiked = likeRepository.existsByUserAndPost(currentUser, post);
-            Long commentCount = commentRepository.countByPostId(post.getId());
-
-            response.setLikeCount(likeCount);
-            response.setLiked(isLiked);
-            response.setCommentCount(commentCount);
-
-            return response;
-        });
+        return feedHydrator.hydrate(posts, viewerId);
     }
 
     //
 
     //삭제
     public void deletePost(Long postId) {
-        User currentUser = authenticationService.getCurrentUser();
+        Long currentUserId = authenticationService.getCurrentUserId();
         Post post = postRepository.findById(postId)
                 .orElseThrow(()->new ResourceNotFoundException("Post not found"));
 
         // 권한 확인
-        if (!post.getUser().getId().equals(currentUser.getId())) {
+        if (!post.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("게시물을 삭제할 권한이 없습니다");
         }
 
+        timelineService.onPostDeleted(postId);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new FeedChangedEvent(postId));
     }
 
     //수정
 
     public PostResponse updatePost(Long postId, PostRequest request) {
 
-        User currentUser = authenticationService.getCurrentUser();
+        Long currentUserId = authenticationService.getCurrentUserId();
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found"));
 
-        if (!post.getUser().getId().equals(currentUser.getId())) {
+        if (!post.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("You are not authorized to update this post");
         }
 
         post.setContent(request.getContent());
         Post updatedPost= postRepository.save(post);
+        eventPublisher.publishEvent(new FeedChangedEvent(postId));
         return PostResponse.from(updatedPost);
     }
 
@@ -108,26 +115,53 @@ public class PostService {
     //게시글 갯수
     @Transactional(readOnly = true)
     public Long getUserPostCount(Long userId) {
-        authenticationService.getCurrentUser();
+        authenticationService.getCurrentUserId();
         return postRepository.countByUserId(userId);
     }
 
     @Transactional(readOnly = true)
     public Page<PostResponse> getUserPosts(Long userId, Pageable pageable) {
-        User currentUser = authenticationService.getCurrentUser();
+        Long currentUserId = authenticationService.getCurrentUserId();
         Page<Post> posts = postRepository.findByUserId(userId, pageable);
-        return posts.map(post -> {
-            PostResponse response = PostResponse.from(post);
-            Long likeCount = likeRepository.countByPostId(post.getId());
-            boolean isLiked = likeRepository.existsByUserAndPost(currentUser, post);
-            Long commentCount = commentRepository.countByPostId(post.getId());
+        return feedHydrator.hydrate(posts, currentUserId);
+    }
 
-            response.setLikeCount(likeCount);
-            response.setLiked(isLiked);
-            response.setCommentCount(commentCount);
+    //커서 기반 게시글 목록 조회
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostResponse> getPostsByCursor(String cursor, int size) {
+        Long currentUserId = authenticationService.getCurrentUserId();
+        Pageable limit = PageRequest.ofSize(CursorPageResponse.clampSize(size));
+
+        Slice<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFeedFirst(limit);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            posts = postRepository.findFeedBefore(after.createdAt(), after.id(), limit);
+        }
+        return toCursorPage(posts, currentUserId);
+    }
 
+    //커서 기반 사용자 게시글 조회
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostResponse> getUserPostsByCursor(Long userId, String cursor, int size) {
+        Long currentUserId = authenticationService.getCurrentUserId();
+        Pageable limit = PageRequest.ofSize(CursorPageResponse.clampSize(size));
+
+        Slice<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findUserFeedFirst(userId, limit);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            posts = postRepository.findUserFeedBefore(userId, after.createdAt(), after.id(), limit);
+        }
+        return toCursorPage(posts, currentUserId);
+    }
 
-            return response;
-        });
+    private CursorPageResponse<PostResponse> toCursorPage(Slice<Post> posts, Long viewerId) {
+        String nextCursor = posts.isEmpty()
+                ? null
+                : FeedCursor.from(posts.getContent().get(posts.getNumberOfElements() - 1)).encode();
+        return CursorPageResponse.of(feedHydrator.hydrate(posts, viewerId), nextCursor);
     }
 }
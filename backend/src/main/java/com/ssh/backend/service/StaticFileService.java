@@ -0,0 +1,206 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.exception.ResourceNotFoundException;
+import com.ssh.backend.storage.StorageBackend;
+import com.ssh.backend.storage.StoredObject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드 이미지 정적 서빙
+ * 파일명이 UUID 라 내용이 바뀌지 않으므로 강한 ETag + 장기 immutable 캐시를 사용하고,
+ * 로컬 저장소의 본문은 Tomcat sendfile(지원 시) 또는 FileChannel.transferTo 로 복사 없이 전송한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StaticFileService {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE_CACHE = "public, max-age=31536000, immutable";
+    // 변형본 생성 전 원본으로 대체 서빙하는 경우 (곧 바뀌므로 짧게)
+    private static final String SHORT_CACHE = "public, max-age=60";
+
+    // 확장자 -> Content-Type (요청마다 probe 하지 않음)
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+
+    private final StorageBackend storageBackend;
+
+    public void serve(String filename, boolean immutable,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StoredObject object = storageBackend.stat(filename)
+                .orElseThrow(() -> new ResourceNotFoundException("파일을 찾을 수 없습니다"));
+
+        long length = object.size();
+        String etag = "\"" + filename + "-" + length + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, object.lastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE_CACHE : SHORT_CACHE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (isNotModified(request, etag, object.lastModified())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(contentType(filename));
+
+        // Range (단일 구간만 지원)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && range.startsWith("bytes=") && !range.contains(",") && length > 0) {
+            long[] bounds = parseRange(range.substring("bytes=".length()).trim(), length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            start = bounds[0];
+            end = bounds[1];
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        Optional<Path> localPath = storageBackend.localPath(filename);
+        if (localPath.isPresent()) {
+            sendLocal(localPath.get(), start, count, request, response);
+        } else {
+            sendStream(filename, start, count, response);
+        }
+    }
+
+    private void sendLocal(Path file, long start, long count,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // Tomcat NIO 커넥터: 서블릿 반환 후 커넥터가 sendfile 로 직접 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    // 원격 저장소(S3): 요청 구간만 받아(ranged GET) 그대로 복사
+    private void sendStream(String filename, long start, long count, HttpServletResponse response) throws IOException {
+        try (InputStream in = storageBackend.open(filename, start, count)) {
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[8192];
+            long remaining = count;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            // HTTP 날짜는 초 단위
+            return ifModifiedSince != -1 && lastModified / 1000 * 1000 <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // "start-end", "start-", "-suffix" -> [start, end] (만족 불가 시 null)
+    private long[] parseRange(String spec, long length) {
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start > end || start >= length) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String contentType(String filename) {
+        int dot = filename.lastIndexOf('.');
+        String extension = dot >= 0 ? filename.substring(dot + 1).toLowerCase() : "";
+        return contentTypes.computeIfAbsent(extension, ext -> MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+    }
+}
@@ -0,0 +1,192 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.entity.FileReferenceId;
+import com.ssh.backend.event.FileReleasedEvent;
+import com.ssh.backend.repository.FileReferenceRepository;
+import com.ssh.backend.repository.StoredFileRepository;
+import com.ssh.backend.storage.StorageBackend;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 업로드 파일의 사용자별 참조 관리
+ * 업로드한 사용자마다 참조 행(file_references)을 두고, 해제는 호출자가 가진 참조만 가능하다.
+ * 내용 주소 파일은 참조 행 수를 stored_files.ref_count 로 유지하며,
+ * 참조가 모두 사라진 파일은 해제 트랜잭션이 커밋된 뒤에 삭제한다.
+ * 저장소 업로드는 트랜잭션 밖에서 하고(커넥션/행 잠금을 업로드 시간 동안 잡지 않음), 실패하면 추가한 참조를 되돌린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoredFileService {
+
+    private final StoredFileRepository storedFileRepository;
+    private final FileReferenceRepository fileReferenceRepository;
+    private final StorageBackend storageBackend;
+    private final ImageVariantService imageVariantService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 프로필에 연결되지 않은 업로드를 해제하기까지의 시간 (ms)
+    @Value("${file.unattached-ttl}")
+    private long unattachedTtl;
+
+    @Value("${file.unattached-cleanup-batch-size}")
+    private int cleanupBatchSize;
+
+    /**
+     * 내용 주소 파일 저장: 업로드한 사용자의 참조를 먼저 커밋하고, 처음 등록되는 내용이면 저장소에 저장
+     * 참조가 커밋된 뒤에는 커밋 후 삭제가 이 파일을 지우지 않으며, 진행 중이던 삭제는 acquire 의 행 잠금이 끝날 때까지 기다린다.
+     *
+     * @return 새로 저장했으면 true (이미 있던 내용이면 false)
+     */
+    public boolean storeContentAddressed(String filename, Path staged, long size, String contentType,
+                                         Long ownerId) throws IOException {
+        Long refCount = transactionTemplate.execute(status -> {
+            // 같은 사용자가 같은 내용을 다시 올리면 참조 수는 그대로 (참조가 있는 동안 파일은 삭제되지 않음)
+            if (fileReferenceRepository.insert(filename, ownerId) == 0) {
+                return null;
+            }
+            return storedFileRepository.acquire(filename, size);
+        });
+        if (refCount == null) {
+            return false;
+        }
+        if (refCount > 1 && storageBackend.exists(filename)) {
+            return false;
+        }
+        // 다른 사용자가 같은 내용을 동시에 올리는 중이면 둘 다 저장할 수 있으나 내용이 같아 결과는 동일
+        try {
+            storageBackend.storeFile(filename, staged, contentType);
+        } catch (IOException | RuntimeException e) {
+            releaseAfterFailedStore(filename, ownerId);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * UUID 파일 저장 (업로드한 사용자가 유일한 참조): 저장소에 올린 뒤 참조 행 추가, 실패하면 올린 파일 삭제
+     */
+    public void storeOwned(String filename, Path staged, String contentType, Long ownerId) throws IOException {
+        storageBackend.storeFile(filename, staged, contentType);
+        try {
+            transactionTemplate.executeWithoutResult(status -> fileReferenceRepository.insert(filename, ownerId));
+        } catch (RuntimeException e) {
+            try {
+                storageBackend.delete(filename);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자가 가진 참조를 프로필 이미지로 연결 (정리 대상에서 제외)
+     *
+     * @return 사용자가 가진 참조면 true
+     */
+    @Transactional
+    public boolean attach(String filename, Long userId) {
+        return fileReferenceRepository.attach(filename, userId) > 0;
+    }
+
+    /**
+     * 사용자가 가진 참조 해제 (가진 참조가 없으면 아무것도 하지 않음)
+     *
+     * @return 참조를 해제했으면 true
+     */
+    @Transactional
+    public boolean release(String filename, Long userId) {
+        return afterReferenceDeleted(filename, fileReferenceRepository.delete(filename, userId));
+    }
+
+    /**
+     * 업로드 후 file.unattached-ttl 동안 프로필에 연결되지 않은 참조 해제
+     */
+    @Scheduled(fixedDelayString = "${file.unattached-cleanup-delay}",
+            initialDelayString = "${file.unattached-cleanup-delay}")
+    @Transactional
+    public void releaseUnattached() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(unattachedTtl));
+        List<FileReferenceId> stale =
+                fileReferenceRepository.findUnattachedBefore(cutoff, PageRequest.ofSize(cleanupBatchSize));
+
+        int released = 0;
+        for (FileReferenceId id : stale) {
+            int deleted = fileReferenceRepository.deleteUnattached(id.getFilename(), id.getUserId());
+            if (afterReferenceDeleted(id.getFilename(), deleted)) {
+                released++;
+            }
+        }
+        if (released > 0) {
+            log.info("Released {} unattached uploads", released);
+        }
+    }
+
+    /**
+     * 마지막 참조가 해제된 파일 삭제 (해제 트랜잭션 커밋 후)
+     * 그 사이 같은 내용이 다시 업로드되어 참조가 생겼으면 삭제하지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onFileReleased(FileReleasedEvent event) {
+        String filename = event.filename();
+        // 내용 주소 파일: 참조 수 0 인 행을 지우면서 잠금 (동시 업로드의 acquire 는 커밋까지 대기)
+        if (storedFileRepository.deleteUnreferenced(filename) == 0 && storedFileRepository.existsById(filename)) {
+            return;
+        }
+        if (fileReferenceRepository.existsById_Filename(filename)) {
+            return;
+        }
+
+        try {
+            storageBackend.delete(filename);
+            for (String variant : imageVariantService.variantFilenames(filename)) {
+                storageBackend.delete(variant);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete released file {}", filename, e);
+        }
+    }
+
+    // 저장소 저장에 실패한 업로드의 참조 해제 (마지막 참조면 커밋 후 삭제 경로가 남은 흔적을 정리)
+    private void releaseAfterFailedStore(String filename, Long ownerId) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    afterReferenceDeleted(filename, fileReferenceRepository.delete(filename, ownerId)));
+        } catch (RuntimeException e) {
+            // 남은 참조는 프로필에 연결되지 않으므로 unattached 정리에서 해제됨
+            log.warn("Failed to release reference after store failure: {}", filename, e);
+        }
+    }
+
+    // 참조 행을 지웠으면 내용 주소 참조 수를 줄이고, 마지막 참조였으면 커밋 후 삭제 예약
+    private boolean afterReferenceDeleted(String filename, int deleted) {
+        if (deleted == 0) {
+            return false;
+        }
+        // 등록되지 않은 파일(UUID 모드)이면 null
+        Long remaining = storedFileRepository.release(filename);
+        if (remaining == null || remaining == 0) {
+            eventPublisher.publishEvent(new FileReleasedEvent(filename));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,221 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.dto.CursorPageResponse;
+import com.ssh.backend.dto.FeedCursor;
+import com.ssh.backend.dto.PostResponse;
+import com.ssh.backend.entity.Post;
+import com.ssh.backend.entity.TimelineEntry;
+import com.ssh.backend.event.PostCreatedEvent;
+import com.ssh.backend.repository.FollowRepository;
+import com.ssh.backend.repository.PostRepository;
+import com.ssh.backend.repository.TimelineEntryRepository;
+import com.ssh.backend.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 타임라인 (hybrid push/pull)
+ * 일반 계정의 게시물은 작성 시 팔로워 타임라인으로 비동기 fan-out 하고,
+ * 팔로워가 fanout-threshold 를 넘은 계정은 pull 작성자로 표시하고(팔로워가 다시 줄어도 유지),
+ * 표시 이후 게시물은 조회 시점에 병합한다. 표시 전 게시물은 이미 밀어 두었으므로 어느 쪽으로도 빠지지 않는다.
+ * 밀어 둔 항목은 사용자마다 최신 max-entries-per-user 개까지만 주기적으로 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    private static final Comparator<FeedCursor> NEWEST_FIRST =
+            Comparator.comparing(FeedCursor::createdAt).thenComparing(FeedCursor::id).reversed();
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final AuthenticationService authenticationService;
+    private final FeedHydrator feedHydrator;
+
+    @Value("${timeline.fanout-threshold}")
+    private long fanoutThreshold;
+
+    @Value("${timeline.fanout-batch-size}")
+    private int fanoutBatchSize;
+
+    @Value("${timeline.backfill-size}")
+    private int backfillSize;
+
+    @Value("${timeline.max-entries-per-user}")
+    private int maxEntriesPerUser;
+
+    @Value("${timeline.trim-batch-size}")
+    private int trimBatchSize;
+
+    /**
+     * 이미 기준을 넘은 작성자 표시 (표시 컬럼 도입 전에 pull 로만 보이던 게시물이 빠지지 않도록)
+     */
+    @PostConstruct
+    public void markPullAuthors() {
+        int marked = userRepository.markPullTimelines(fanoutThreshold);
+        if (marked > 0) {
+            log.info("Marked {} pull timeline authors", marked);
+        }
+    }
+
+    /**
+     * 게시물 생성 후 팔로워 타임라인으로 fan-out (커밋 이후, 별도 스레드에서 배치 단위로 실행)
+     */
+    @Async("timelineExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void fanOut(PostCreatedEvent event) {
+        // 작성자 본인 타임라인
+        timelineEntryRepository.insertEntry(event.authorId(), event.postId(), event.authorId(), event.createdAt());
+
+        userRepository.markPullTimeline(event.authorId(), fanoutThreshold);
+        Boolean pullTimeline = userRepository.findPullTimelineById(event.authorId());
+        if (pullTimeline == null || pullTimeline) {
+            return;
+        }
+
+        Pageable batch = PageRequest.ofSize(fanoutBatchSize);
+        long afterId = 0L;
+        int delivered = 0;
+        while (true) {
+            List<Long> followerIds = followRepository.findFollowerIdsAfter(event.authorId(), afterId, batch);
+            if (followerIds.isEmpty()) {
+                break;
+            }
+            delivered += timelineEntryRepository.fanOut(
+                    event.postId(), event.authorId(), event.createdAt(), followerIds);
+            afterId = followerIds.get(followerIds.size() - 1);
+            if (followerIds.size() < fanoutBatchSize) {
+                break;
+            }
+        }
+        log.debug("Fanned out post {} to {} timelines", event.postId(), delivered);
+    }
+
+    /**
+     * 새로 팔로우한 계정의 최근 게시물 채우기 (pull 대상 계정은 제외)
+     */
+    public void onFollow(Long followerId, Long followingId) {
+        if (!Boolean.TRUE.equals(userRepository.findPullTimelineById(followingId))) {
+            timelineEntryRepository.backfill(followerId, followingId, backfillSize);
+        }
+    }
+
+    public void onUnfollow(Long followerId, Long followingId) {
+        timelineEntryRepository.deleteByUserIdAndAuthorId(followerId, followingId);
+    }
+
+    public void onPostDeleted(Long postId) {
+        timelineEntryRepository.deleteByPostId(postId);
+    }
+
+    /**
+     * 사용자별 타임라인 항목 수 제한 (user_id 범위 단위로 짧은 문장 여러 번)
+     */
+    @Scheduled(fixedDelayString = "${timeline.trim-interval}", initialDelayString = "${timeline.trim-interval}")
+    public void trimTimelines() {
+        int trimmed = 0;
+        long maxUserId = userRepository.findMaxId();
+        for (long fromId = 0; fromId < maxUserId; fromId += trimBatchSize) {
+            trimmed += timelineEntryRepository.trimOlderThanLatest(fromId, fromId + trimBatchSize, maxEntriesPerUser);
+        }
+        if (trimmed > 0) {
+            log.info("Trimmed {} timeline entries", trimmed);
+        }
+    }
+
+    /**
+     * 홈 피드 조회: 미리 밀어 둔 항목(push) + 대형 계정 최신 게시물(pull)을 (created_at, id) 역순으로 병합
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostResponse> getHomeTimeline(String cursor, int requestedSize) {
+        int size = CursorPageResponse.clampSize(requestedSize);
+        Long currentUserId = authenticationService.getCurrentUserId();
+        FeedCursor after = (cursor == null || cursor.isBlank()) ? null : FeedCursor.decode(cursor);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<TimelineEntry> pushed = after == null
+                ? timelineEntryRepository.findLatest(currentUserId, limit)
+                : timelineEntryRepository.findBefore(currentUserId, after.createdAt(), after.id(), limit);
+
+        List<Long> pullAuthorIds = followRepository.findPullFollowingIds(currentUserId);
+        List<Post> pulled = List.of();
+        if (!pullAuthorIds.isEmpty()) {
+            pulled = after == null
+                    ? postRepository.findLatestByUserIds(pullAuthorIds, limit)
+                    : postRepository.findByUserIdsBefore(pullAuthorIds, after.createdAt(), after.id(), limit);
+        }
+
+        List<FeedCursor> merged = merge(
+                pushed.stream()
+                        .map(entry -> new FeedCursor(entry.getCreatedAt(), entry.getId().getPostId()))
+                        .collect(Collectors.toList()),
+                pulled.stream().map(FeedCursor::from).collect(Collectors.toList()),
+                size + 1);
+
+        boolean hasNext = merged.size() > size;
+        List<FeedCursor> page = hasNext ? merged.subList(0, size) : merged;
+
+        Map<Long, Post> postsById = new HashMap<>();
+        pulled.forEach(post -> postsById.put(post.getId(), post));
+        List<Long> missing = page.stream()
+                .map(FeedCursor::id)
+                .filter(id -> !postsById.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            postRepository.findAllWithUserByIdIn(missing).forEach(post -> postsById.put(post.getId(), post));
+        }
+
+        // 삭제된 게시물은 건너뜀
+        List<Post> posts = new ArrayList<>();
+        for (FeedCursor key : page) {
+            Post post = postsById.get(key.id());
+            if (post != null) {
+                posts.add(post);
+            }
+        }
+
+        String nextCursor = page.isEmpty() ? null : page.get(page.size() - 1).encode();
+        List<PostResponse> content = feedHydrator.hydrate(posts, currentUserId);
+        return CursorPageResponse.of(new SliceImpl<>(content, PageRequest.ofSize(size), hasNext), nextCursor);
+    }
+
+    /**
+     * 푸시/풀 후보 병합 (post_id 기준 중복 제거, 최신순 최대 limit 개)
+     * 같은 게시물이면 게시물에서 읽은 풀 쪽 값을 쓴다.
+     */
+    static List<FeedCursor> merge(List<FeedCursor> pushed, List<FeedCursor> pulled, int limit) {
+        Map<Long, FeedCursor> candidates = new LinkedHashMap<>();
+        for (FeedCursor key : pushed) {
+            candidates.put(key.id(), key);
+        }
+        for (FeedCursor key : pulled) {
+            candidates.put(key.id(), key);
+        }
+        return candidates.values().stream()
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
@@ -3,20 +3,29 @@ package com.ssh.backend.service;
 import com.ssh.backend.dto.UpdateProfileRequest;
 import com.ssh.backend.dto.UserResponse;
 import com.ssh.backend.entity.User;
+import com.ssh.backend.event.FeedChangedEvent;
+import com.ssh.backend.event.UserChangedEvent;
 import com.ssh.backend.exception.ResourceNotFoundException;
 import com.ssh.backend.repository.FollowRepository;
 import com.ssh.backend.repository.UserRepository;
+import com.ssh.backend.security.UserCache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final FollowRepository followRepository;
     private final AuthenticationService authenticationService;
+    private final UserCache userCache;
+    private final FileUploadService fileUploadService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FollowRepository followRepository;
 
     /**
      * 사용자 프로필 조회
@@ -33,12 +42,9 @@ public class UserService {
 
         boolean isFollowing = false;
         if(!currentUser.getId().equals(user.getId())) {
-            isFollowing = followRepository.existsByFollowerAndFollowing(currentUser, user);
+            isFollowing = followRepository.existsByFollower_IdAndFollowing_Id(currentUser.getId(), user.getId());
         }
 
-        Long followersCount = followRepository.countFollowers(user);
-        Long followingCount = followRepository.countFollowing(user);
-
         return UserResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
@@ -46,8 +52,8 @@ public class UserService {
                 .fullName(user.getFullName())
                 .profileImageUrl(user.getProfileImageUrl())
                 .bio(user.getBio())
-                .followersCount(followersCount)
-                .followingCount(followingCount)
+                .followersCount(user.getFollowersCount())
+                .followingCount(user.getFollowingCount())
                 .isFollowing(isFollowing)
                 .build();
     }
@@ -55,6 +61,7 @@ public class UserService {
     /**
      * 프로필 수정
      */
+    @Transactional
     public UserResponse updateProfile(UpdateProfileRequest request, String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
@@ -66,11 +73,24 @@ public class UserService {
         if (request.getBio() != null) {
             user.setBio(request.getBio());
         }
-        if (request.getProfileImageUrl() != null) {
+        String previousImageUrl = user.getProfileImageUrl();
+        boolean imageChanged = request.getProfileImageUrl() != null
+                && !request.getProfileImageUrl().equals(previousImageUrl);
+        if (imageChanged) {
             user.setProfileImageUrl(request.getProfileImageUrl());
         }
 
         User updatedUser = userRepository.save(user);
+        userCache.evict(updatedUser);
+        eventPublisher.publishEvent(UserChangedEvent.of(updatedUser));
+        // 피드에 실린 작성자 정보 변경
+        eventPublisher.publishEvent(FeedChangedEvent.all());
+
+        // 새 이미지 연결 + 이전 이미지 참조 해제 (본인이 올린 파일만, 실제 삭제는 커밋 후)
+        if (imageChanged) {
+            fileUploadService.attachFile(updatedUser.getProfileImageUrl(), updatedUser.getId());
+            fileUploadService.releaseFile(previousImageUrl, updatedUser.getId());
+        }
 
 
         return mapToUserResponse(updatedUser);
@@ -0,0 +1,405 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.dto.UserSuggestion;
+import com.ssh.backend.event.FollowChangedEvent;
+import com.ssh.backend.event.UserChangedEvent;
+import com.ssh.backend.repository.UserRepository;
+import com.ssh.backend.util.ExpiringLruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 사용자 검색 자동완성 (메모리 접두사 색인)
+ * username, fullName 전체와 fullName 의 각 단어를 정규화해 정렬 맵에 넣고,
+ * 접두사와 일치하는 사용자 전체 중 팔로워 수 상위 max-results 명을 돌려준다. 키 입력마다 DB 를 조회하지 않는다.
+ * 접두사별 상위 목록은 캐시해 두고 색인 변경 때 그 자리에서 고치며, 정확히 고칠 수 없으면 버리고 다음 검색에서 다시 계산한다.
+ * 일치하는 키가 많은 짧은 접두사(precomputed-prefix-length 글자 이하)는 적재 때 한 번에 계산해 항상 들고 있고,
+ * max-results 의 두 배까지 여유분을 두어 순위 밖으로 밀린 사용자를 빼도 다시 훑지 않게 한다.
+ * 시작 시 users 에서 적재하고, 가입/프로필 수정/팔로우 변경 이벤트(커밋 후)로 갱신한다. (인스턴스별 색인)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTypeaheadService {
+
+    // 키: 정규화된 단어 + SEPARATOR + 사용자 ID (같은 단어를 가진 사용자끼리 겹치지 않게)
+    private static final char SEPARATOR = '\u0000';
+
+    // 짧은 접두사 목록에 둘 여유분 (max-results 배수)
+    private static final int PRECOMPUTED_FACTOR = 2;
+
+    // 팔로워 수 역순, 같으면 username, id 순
+    private static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::followersCount).reversed()
+            .thenComparing(Entry::username)
+            .thenComparing(Entry::id);
+
+    private final UserRepository userRepository;
+
+    private final NavigableMap<String, Long> index = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${typeahead.load-batch-size}")
+    private int loadBatchSize;
+
+    @Value("${typeahead.max-results}")
+    private int maxResults;
+
+    @Value("${typeahead.prefix-cache.max-size}")
+    private int prefixCacheSize;
+
+    @Value("${typeahead.prefix-cache.ttl}")
+    private long prefixCacheTtl;
+
+    @Value("${typeahead.precomputed-prefix-length}")
+    private int precomputedPrefixLength;
+
+    // 짧은 접두사 -> 상위 목록 (일치하는 사용자가 없는 접두사는 항목 없음), 쓰기는 this 로 동기화
+    private final Map<String, TopUsers> precomputedTops = new ConcurrentHashMap<>();
+
+    // 정규화된 접두사 -> 상위 max-results 명
+    private volatile ExpiringLruCache<String, TopUsers> topByPrefix;
+    // 색인 변경마다 증가 (계산 도중 변경이 있었으면 결과를 캐시하지 않음), this 로 동기화
+    private long version;
+
+    @PostConstruct
+    public void load() {
+        synchronized (this) {
+            if (topByPrefix == null) {
+                topByPrefix = new ExpiringLruCache<>(prefixCacheSize, prefixCacheTtl);
+            }
+        }
+
+        long afterId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<UserRepository.TypeaheadRow> rows =
+                    userRepository.findTypeaheadRowsAfter(afterId, PageRequest.ofSize(loadBatchSize));
+            for (UserRepository.TypeaheadRow row : rows) {
+                put(new Entry(row.getId(), row.getUsername(), row.getFullName(),
+                        row.getProfileImageUrl(), row.getFollowersCount()));
+            }
+            loaded += rows.size();
+            if (rows.size() < loadBatchSize) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+
+        synchronized (this) {
+            topByPrefix.clear();
+            precomputeShortPrefixes();
+            version++;
+        }
+        log.info("Loaded {} users into typeahead index ({} keys, {} precomputed prefixes)",
+                loaded, index.size(), precomputedTops.size());
+    }
+
+    /**
+     * 접두사로 사용자 검색 (팔로워 수 역순)
+     */
+    public List<UserSuggestion> search(String prefix, int limit) {
+        String normalized = normalize(prefix == null ? "" : prefix.strip().replaceFirst("^@", ""));
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        TopUsers top;
+        if (normalized.length() <= precomputedPrefixLength) {
+            top = precomputedTops.getOrDefault(normalized, TopUsers.NONE);
+        } else {
+            top = topByPrefix.get(normalized);
+        }
+        if (top == null) {
+            long startVersion;
+            synchronized (this) {
+                startVersion = version;
+            }
+            top = rank(normalized, maxResults);
+            synchronized (this) {
+                if (version == startVersion) {
+                    topByPrefix.put(normalized, top);
+                }
+            }
+        }
+
+        return top.users().stream()
+                .limit(Math.min(Math.max(limit, 1), maxResults))
+                .map(Entry::toSuggestion)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        // 이미 색인된 사용자의 팔로워 수는 팔로우 이벤트로만 갱신 (프로필 수정 시점의 값이 더 오래됐을 수 있음)
+        Entry existing = entries.get(event.userId());
+        long followersCount = existing != null ? existing.followersCount() : event.followersCount();
+        put(new Entry(event.userId(), event.username(), event.fullName(),
+                event.profileImageUrl(), followersCount));
+    }
+
+    /**
+     * 팔로우 변경 후 팔로워 수만 갱신 (순위 기준)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFollowChanged(FollowChangedEvent event) {
+        Entry entry = entries.get(event.followingId());
+        if (entry != null) {
+            put(entry.withFollowersCount(event.followersCount()));
+        }
+    }
+
+    // 접두사와 일치하는 모든 사용자 중 상위 limit 명 (크기 제한 힙)
+    private TopUsers rank(String prefix, int limit) {
+        PriorityQueue<Entry> heap = new PriorityQueue<>(RANK.reversed());
+        Set<Long> inHeap = new HashSet<>();
+        boolean complete = true;
+        for (Long id : index.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            // 같은 사용자가 여러 단어로 일치하는 경우
+            if (inHeap.contains(id)) {
+                continue;
+            }
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(entry);
+                inHeap.add(id);
+                continue;
+            }
+            complete = false;
+            if (RANK.compare(entry, heap.peek()) < 0) {
+                inHeap.remove(heap.poll().id());
+                heap.add(entry);
+                inHeap.add(id);
+            }
+        }
+
+        List<Entry> users = new ArrayList<>(heap);
+        users.sort(RANK);
+        return new TopUsers(List.copyOf(users), complete);
+    }
+
+    // 같은 사용자의 키 교체가 섞이지 않도록 쓰기만 직렬화 (조회는 락 없음)
+    private synchronized void put(Entry entry) {
+        Entry previous = entries.put(entry.id(), entry);
+        Set<String> keys = keysOf(entry);
+        if (previous != null) {
+            // 그대로인 키는 남겨 둠 (팔로워 수만 바뀐 경우 조회 중 잠깐 사라지지 않게)
+            keysOf(previous).stream().filter(key -> !keys.contains(key)).forEach(index::remove);
+        }
+        keys.forEach(key -> index.put(key, entry.id()));
+        version++;
+        updateCachedTops(previous, entry);
+    }
+
+    // 바뀐 사용자가 걸린 접두사의 캐시된/미리 계산한 상위 목록 갱신 (호출자가 this 로 동기화)
+    private void updateCachedTops(Entry previous, Entry current) {
+        Set<String> currentTerms = termsOf(current);
+        Set<String> prefixes = new HashSet<>();
+        for (Entry entry : previous == null ? List.of(current) : List.of(previous, current)) {
+            for (String term : termsOf(entry)) {
+                for (int length = 1; length <= term.length(); length++) {
+                    prefixes.add(term.substring(0, length));
+                }
+            }
+        }
+
+        for (String prefix : prefixes) {
+            boolean matches = currentTerms.stream().anyMatch(term -> term.startsWith(prefix));
+            if (prefix.length() <= precomputedPrefixLength) {
+                updatePrecomputed(prefix, current.id(), matches ? current : null);
+                continue;
+            }
+            TopUsers top = topByPrefix.get(prefix);
+            if (top == null) {
+                continue;
+            }
+            TopUsers next = top.update(current.id(), matches ? current : null, maxResults);
+            if (!next.isExact(maxResults)) {
+                topByPrefix.remove(prefix);
+            } else if (next != top) {
+                topByPrefix.put(prefix, next);
+            }
+        }
+    }
+
+    // 여유분을 다 써서 max-results 명을 보장할 수 없을 때만 그 접두사를 다시 훑음
+    private void updatePrecomputed(String prefix, Long id, Entry current) {
+        int limit = maxResults * PRECOMPUTED_FACTOR;
+        TopUsers top = precomputedTops.getOrDefault(prefix, TopUsers.NONE);
+        TopUsers next = top.update(id, current, limit);
+        if (!next.isExact(maxResults)) {
+            next = rank(prefix, limit);
+        }
+        if (next.users().isEmpty()) {
+            precomputedTops.remove(prefix);
+        } else if (next != top) {
+            precomputedTops.put(prefix, next);
+        }
+    }
+
+    // 모든 사용자를 한 번 훑어 짧은 접두사마다 상위 목록 계산 (호출자가 this 로 동기화)
+    private void precomputeShortPrefixes() {
+        int limit = maxResults * PRECOMPUTED_FACTOR;
+        Map<String, PriorityQueue<Entry>> heaps = new HashMap<>();
+        Map<String, Boolean> complete = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            Set<String> prefixes = new HashSet<>();
+            for (String term : termsOf(entry)) {
+                for (int length = 1; length <= Math.min(term.length(), precomputedPrefixLength); length++) {
+                    prefixes.add(term.substring(0, length));
+                }
+            }
+            for (String prefix : prefixes) {
+                PriorityQueue<Entry> heap = heaps.computeIfAbsent(prefix, key -> new PriorityQueue<>(RANK.reversed()));
+                heap.add(entry);
+                if (heap.size() > limit) {
+                    heap.poll();
+                    complete.put(prefix, false);
+                }
+            }
+        }
+
+        // 비우지 않고 교체 (조회 중 잠깐 비어 보이지 않게)
+        Map<String, TopUsers> computed = new HashMap<>();
+        heaps.forEach((prefix, heap) -> {
+            List<Entry> users = new ArrayList<>(heap);
+            users.sort(RANK);
+            computed.put(prefix, new TopUsers(List.copyOf(users), complete.getOrDefault(prefix, true)));
+        });
+        precomputedTops.keySet().retainAll(computed.keySet());
+        precomputedTops.putAll(computed);
+    }
+
+    private static Set<String> termsOf(Entry entry) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(normalize(entry.username()));
+        if (entry.fullName() != null) {
+            String fullName = normalize(entry.fullName());
+            terms.add(fullName);
+            for (String word : fullName.split("\\s+")) {
+                terms.add(word);
+            }
+        }
+        terms.remove("");
+        return terms;
+    }
+
+    private static Set<String> keysOf(Entry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String term : termsOf(entry)) {
+            keys.add(term + SEPARATOR + entry.id());
+        }
+        return keys;
+    }
+
+    // 호환 문자 통일(NFKC) + 소문자 + 공백 정리
+    private static String normalize(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .strip()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 접두사별 상위 목록 (RANK 순)
+     * complete 면 일치하는 사용자 전체, 아니면 목록 밖 사용자는 모두 마지막 항목보다 순위가 낮다.
+     */
+    record TopUsers(List<Entry> users, boolean complete) {
+
+        static final TopUsers NONE = new TopUsers(List.of(), true);
+
+        /**
+         * 상위 count 명을 정확히 답할 수 있는지 (일치하는 사용자 전체이거나 count 명 이상)
+         */
+        boolean isExact(int count) {
+            return complete || users.size() >= count;
+        }
+
+        /**
+         * 사용자 한 명의 변경 반영 (current 가 null 이면 더 이상 일치하지 않음, 크기는 limit 이하로 유지)
+         * 목록 밖 사용자를 모르고는 그 자리를 채울 수 없으면 그 사용자를 뺀 더 짧은 목록을 돌려준다.
+         * (남은 항목은 여전히 목록 밖 누구보다 앞서므로 정확한 상위 n-1 명, isExact 로 확인)
+         */
+        TopUsers update(Long id, Entry current, int limit) {
+            int position = -1;
+            for (int i = 0; i < users.size(); i++) {
+                if (users.get(i).id().equals(id)) {
+                    position = i;
+                    break;
+                }
+            }
+            Entry last = users.isEmpty() ? null : users.get(users.size() - 1);
+
+            if (current == null) {
+                if (position < 0) {
+                    return this;
+                }
+                // 빈자리를 채울 목록 밖 사용자를 모르면 한 명 짧아짐
+                List<Entry> next = new ArrayList<>(users);
+                next.remove(position);
+                return new TopUsers(List.copyOf(next), complete);
+            }
+
+            List<Entry> next = new ArrayList<>(users);
+            if (position >= 0) {
+                // 순위가 이전 마지막 항목 뒤로 밀리면 목록 밖 사용자가 앞설 수 있으므로 목록에서 뺌
+                if (!complete && RANK.compare(current, last) > 0) {
+                    next.remove(position);
+                    return new TopUsers(List.copyOf(next), false);
+                }
+                next.set(position, current);
+            } else if (complete || last == null || RANK.compare(current, last) < 0) {
+                next.add(current);
+            } else {
+                return this;
+            }
+
+            next.sort(RANK);
+            boolean nextComplete = complete;
+            if (next.size() > limit) {
+                next.remove(next.size() - 1);
+                nextComplete = false;
+            }
+            return new TopUsers(List.copyOf(next), nextComplete);
+        }
+    }
+
+    record Entry(Long id, String username, String fullName, String profileImageUrl, long followersCount) {
+
+        Entry withFollowersCount(long count) {
+            return new Entry(id, username, fullName, profileImageUrl, count);
+        }
+
+        UserSuggestion toSuggestion() {
+            return UserSuggestion.builder()
+                    .id(id)
+                    .username(username)
+                    .fullName(fullName)
+                    .profileImageUrl(profileImageUrl)
+                    .followersCount(followersCount)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ssh.backend.storage;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+
+/**
+ * S3 (또는 S3 호환) 저장소
+ * TransferManager 가 contentLength 를 보고 멀티파트 업로드로 나눠 올리므로
+ * 파트 크기만큼만 버퍼링하고 전체 파일을 힙에 올리지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3StorageBackend implements StorageBackend {
+
+    // 이 크기 이상이면 멀티파트 업로드 (파트 최소 크기 5MB)
+    private static final long MULTIPART_THRESHOLD = 8L * 1024 * 1024;
+    private static final long MINIMUM_PART_SIZE = 5L * 1024 * 1024;
+
+    private final AmazonS3 amazonS3;
+    private final String bucketName;
+    private final TransferManager transferManager;
+
+    public S3StorageBackend(AmazonS3 amazonS3, @Value("${aws.s3.bucket-name}") String bucketName) {
+        this.amazonS3 = amazonS3;
+        this.bucketName = bucketName;
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(MULTIPART_THRESHOLD)
+                .withMinimumUploadPartSize(MINIMUM_PART_SIZE)
+                .build();
+    }
+
+    @Override
+    public void store(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+
+        try {
+            transferManager.upload(bucketName, key, content, metadata).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("S3 upload interrupted: " + key);
+        } catch (com.amazonaws.AmazonClientException e) {
+            throw new IOException("S3 upload failed: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<StoredObject> stat(String key) throws IOException {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucketName, key);
+            long lastModified = metadata.getLastModified() != null ? metadata.getLastModified().getTime() : 0L;
+            return Optional.of(new StoredObject(key, metadata.getContentLength(), lastModified));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("S3 stat failed: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return amazonS3.getObject(bucketName, key).getObjectContent();
+        } catch (com.amazonaws.AmazonClientException e) {
+            throw new IOException("S3 download failed: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long start, long length) throws IOException {
+        if (length <= 0) {
+            return InputStream.nullInputStream();
+        }
+        try {
+            // Range: bytes=start-end (end 포함)
+            GetObjectRequest request = new GetObjectRequest(bucketName, key).withRange(start, start + length - 1);
+            return amazonS3.getObject(request).getObjectContent();
+        } catch (com.amazonaws.AmazonClientException e) {
+            throw new IOException("S3 download failed: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            amazonS3.deleteObject(bucketName, key);
+        } catch (com.amazonaws.AmazonClientException e) {
+            throw new IOException("S3 delete failed: " + key, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 클라이언트는 빈으로 관리되므로 TransferManager 의 스레드 풀만 종료
+        transferManager.shutdownNow(false);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssh.backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 저장소 (로컬 디스크 / S3)
+ * 키는 저장 파일명이며, 본문은 항상 스트림으로 주고받아 전체를 힙에 올리지 않는다.
+ */
+public interface StorageBackend {
+
+    void store(String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * 임시 파일로 받아 둔 내용을 키로 저장 (임시 파일 정리는 호출자 몫)
+     */
+    default void storeFile(String key, Path file, String contentType) throws IOException {
+        try (InputStream content = Files.newInputStream(file)) {
+            store(key, content, Files.size(file), contentType);
+        }
+    }
+
+    Optional<StoredObject> stat(String key) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    /**
+     * start 부터 length 바이트만 읽는 스트림 (Range 요청용, 앞부분을 내려받아 버리지 않음)
+     */
+    InputStream open(String key, long start, long length) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    default boolean exists(String key) throws IOException {
+        return stat(key).isPresent();
+    }
+
+    /**
+     * 로컬 파일 경로 (zero-copy 전송용, 원격 저장소는 empty)
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssh.backend.storage;
+
+/**
+ * 저장된 객체의 메타데이터
+ */
+public record StoredObject(String key, long size, long lastModified) {
+}
@@ -0,0 +1,148 @@
+package com.ssh.backend.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 + TTL 만료를 갖는 간단한 LRU 캐시 (스레드 안전)
+ * 키 해시로 나눈 세그먼트마다 따로 잠그는 LRU 맵을 두어, 요청 스레드들이 한 락에 몰리지 않게 한다.
+ * 세그먼트별 최대 크기(maxSize / 세그먼트 수)를 넘으면 그 세그먼트에서 가장 오래 사용되지 않은 항목부터 제거한다.
+ * (전체 기준의 정확한 LRU 는 아니며, 전체 크기는 maxSize 를 넘지 않는다)
+ */
+public class ExpiringLruCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final long ttlNanos;
+    private final Segment<K, V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maxSize, long ttlMillis) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        // 2의 거듭제곱 개 (작은 캐시는 세그먼트당 최소 한 항목)
+        int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxSize)));
+        int segmentSize = Math.max(1, maxSize / count);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(segmentSize);
+        }
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.get(key, System.nanoTime());
+        }
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * 캐시에 없거나 만료된 경우에만 loader 로 값을 만들어 저장 (같은 세그먼트의 다른 키는 그동안 대기)
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            long now = System.nanoTime();
+            V value = segment.get(key, now);
+            if (value == null) {
+                value = loader.apply(key);
+                if (value != null) {
+                    segment.put(key, new Entry<>(value, now + ttlNanos));
+                }
+            }
+            return value;
+        }
+    }
+
+    public void remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 만료된 항목 일괄 제거 (세그먼트 하나씩 잠금)
+     */
+    public void evictExpired() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                long now = System.nanoTime();
+                Iterator<Entry<V>> it = segment.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().isExpired(now)) {
+                        it.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        // HashMap 과 같은 방식으로 상위 비트를 섞음
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * 접근 순서 LinkedHashMap (모든 접근은 세그먼트 자신으로 동기화)
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        private V get(K key, long now) {
+            Entry<V> entry = super.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                super.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+}
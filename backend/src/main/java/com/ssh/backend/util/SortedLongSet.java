@@ -0,0 +1,249 @@
+package com.ssh.backend.util;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 long[] 기반 불변 집합
+ * Set&lt;Long&gt; 대비 원소당 8바이트만 쓰고, contains 는 이진 탐색이다.
+ * 변경은 새 객체를 만들어 반환하므로 읽는 쪽은 락 없이 공유할 수 있다.
+ * 큰 집합의 한 건 변경이 전체 배열 복사가 되지 않도록 추가/삭제된 값은 작은 정렬 배열(delta)에 따로 두고,
+ * delta 가 기본 배열의 1/32 (최소 MIN_DELTA 개)를 넘을 때만 하나의 배열로 합친다.
+ */
+public final class SortedLongSet {
+
+    private static final long[] NONE = new long[0];
+    private static final SortedLongSet EMPTY = new SortedLongSet(NONE, NONE, NONE);
+    // 배열 세 개/객체 헤더 대략치
+    private static final long OVERHEAD_BYTES = 80;
+    private static final int MIN_DELTA = 64;
+    private static final int DELTA_SHIFT = 5;
+
+    private final long[] base;
+    // base 에 없는 추가 값, base 에 있는 삭제 값 (둘 다 정렬)
+    private final long[] added;
+    private final long[] removed;
+
+    private SortedLongSet(long[] base, long[] added, long[] removed) {
+        this.base = base;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    public static SortedLongSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 임의 순서의 값으로 생성 (중복 제거)
+     */
+    public static SortedLongSet of(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return new SortedLongSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size), NONE, NONE);
+    }
+
+    public boolean contains(long value) {
+        if (Arrays.binarySearch(added, value) >= 0) {
+            return true;
+        }
+        return Arrays.binarySearch(base, value) >= 0 && Arrays.binarySearch(removed, value) < 0;
+    }
+
+    public SortedLongSet with(long value) {
+        int removedIndex = Arrays.binarySearch(removed, value);
+        if (removedIndex >= 0) {
+            return next(base, added, removeAt(removed, removedIndex));
+        }
+        if (Arrays.binarySearch(base, value) >= 0) {
+            return this;
+        }
+        int addedIndex = Arrays.binarySearch(added, value);
+        if (addedIndex >= 0) {
+            return this;
+        }
+        return next(base, insertAt(added, -addedIndex - 1, value), removed);
+    }
+
+    public SortedLongSet without(long value) {
+        int addedIndex = Arrays.binarySearch(added, value);
+        if (addedIndex >= 0) {
+            return next(base, removeAt(added, addedIndex), removed);
+        }
+        if (Arrays.binarySearch(base, value) < 0) {
+            return this;
+        }
+        int removedIndex = Arrays.binarySearch(removed, value);
+        if (removedIndex >= 0) {
+            return this;
+        }
+        return next(base, added, insertAt(removed, -removedIndex - 1, value));
+    }
+
+    /**
+     * 두 집합의 공통 원소 (오름차순, 최대 limit 개)
+     * 크기 차이가 크면 작은 쪽 원소마다 큰 쪽을 이진 탐색으로 건너뛰고, 비슷하면 선형 병합한다.
+     */
+    public long[] intersect(SortedLongSet other, int limit) {
+        long[] result = new long[Math.min(limit, Math.min(size(), other.size()))];
+        int count = intersect(this, other, result, result.length);
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 공통 원소 수 (결과 배열을 만들지 않음)
+     */
+    public int intersectCount(SortedLongSet other) {
+        return intersect(this, other, null, Integer.MAX_VALUE);
+    }
+
+    public long[] toArray() {
+        if (added.length == 0 && removed.length == 0) {
+            return base.clone();
+        }
+        long[] values = new long[size()];
+        Cursor cursor = new Cursor(this);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = cursor.peek();
+            cursor.advance();
+        }
+        return values;
+    }
+
+    public int size() {
+        return base.length + added.length - removed.length;
+    }
+
+    public long sizeInBytes() {
+        return OVERHEAD_BYTES + (long) (base.length + added.length + removed.length) * Long.BYTES;
+    }
+
+    // out 이 null 이면 개수만 셈
+    private static int intersect(SortedLongSet x, SortedLongSet y, long[] out, int limit) {
+        SortedLongSet small = x.size() <= y.size() ? x : y;
+        SortedLongSet large = small == x ? y : x;
+        boolean skip = (long) small.size() * 32 < large.size();
+
+        Cursor smallCursor = new Cursor(small);
+        Cursor largeCursor = new Cursor(large);
+        int count = 0;
+        while (count < limit && smallCursor.hasNext() && largeCursor.hasNext()) {
+            long a = smallCursor.peek();
+            long b = largeCursor.peek();
+            if (a == b) {
+                if (out != null) {
+                    out[count] = a;
+                }
+                count++;
+                smallCursor.advance();
+                largeCursor.advance();
+            } else if (a < b) {
+                smallCursor.advance();
+            } else if (skip) {
+                largeCursor.seek(a);
+            } else {
+                largeCursor.advance();
+            }
+        }
+        return count;
+    }
+
+    // delta 가 커지면 하나의 정렬 배열로 합침
+    private static SortedLongSet next(long[] base, long[] added, long[] removed) {
+        if (added.length + removed.length <= Math.max(MIN_DELTA, base.length >>> DELTA_SHIFT)) {
+            return new SortedLongSet(base, added, removed);
+        }
+        return new SortedLongSet(new SortedLongSet(base, added, removed).toArray(), NONE, NONE);
+    }
+
+    private static long[] insertAt(long[] values, int index, long value) {
+        long[] next = new long[values.length + 1];
+        System.arraycopy(values, 0, next, 0, index);
+        next[index] = value;
+        System.arraycopy(values, index, next, index + 1, values.length - index);
+        return next;
+    }
+
+    private static long[] removeAt(long[] values, int index) {
+        if (values.length == 1) {
+            return NONE;
+        }
+        long[] next = new long[values.length - 1];
+        System.arraycopy(values, 0, next, 0, index);
+        System.arraycopy(values, index + 1, next, index, values.length - index - 1);
+        return next;
+    }
+
+    // from 이후에서 value 이상인 첫 위치
+    private static int lowerBound(long[] values, int from, long value) {
+        int index = Arrays.binarySearch(values, from, values.length, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * (base - removed) 와 added 를 병합한 오름차순 순회 (base 와 added 는 겹치지 않음)
+     */
+    private static final class Cursor {
+        private final SortedLongSet set;
+        private int baseIndex;
+        private int addedIndex;
+        private int removedIndex;
+
+        private Cursor(SortedLongSet set) {
+            this.set = set;
+        }
+
+        private boolean hasNext() {
+            skipRemoved();
+            return baseIndex < set.base.length || addedIndex < set.added.length;
+        }
+
+        // hasNext() 가 true 일 때만 호출
+        private long peek() {
+            skipRemoved();
+            if (baseIndex == set.base.length) {
+                return set.added[addedIndex];
+            }
+            if (addedIndex == set.added.length) {
+                return set.base[baseIndex];
+            }
+            return Math.min(set.base[baseIndex], set.added[addedIndex]);
+        }
+
+        private void advance() {
+            long value = peek();
+            if (baseIndex < set.base.length && set.base[baseIndex] == value) {
+                baseIndex++;
+            } else {
+                addedIndex++;
+            }
+        }
+
+        // value 이상인 첫 원소로 이동
+        private void seek(long value) {
+            baseIndex = lowerBound(set.base, baseIndex, value);
+            addedIndex = lowerBound(set.added, addedIndex, value);
+            removedIndex = lowerBound(set.removed, removedIndex, value);
+        }
+
+        private void skipRemoved() {
+            while (baseIndex < set.base.length && removedIndex < set.removed.length) {
+                long current = set.base[baseIndex];
+                while (removedIndex < set.removed.length && set.removed[removedIndex] < current) {
+                    removedIndex++;
+                }
+                if (removedIndex < set.removed.length && set.removed[removedIndex] == current) {
+                    baseIndex++;
+                    removedIndex++;
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.ssh.backend.repository;
+
+import com.ssh.backend.entity.User;
+import com.ssh.backend.repository.FollowRepository.FollowChange;
+import com.ssh.backend.repository.FollowRepository.FollowToggle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로우 설정/해제/토글 CTE 가 반복 호출에도 관계와 양쪽 카운터를 한 번만 바꾸는지 검증
+ * (Postgres 컨테이너, Docker 가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class FollowRepositoryTest {
+
+	@Container
+	static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	FollowRepository followRepository;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	Long followerId;
+	Long followingId;
+
+	@BeforeEach
+	void setUp() {
+		followerId = persistUser("follower").getId();
+		followingId = persistUser("following").getId();
+		entityManager.flush();
+	}
+
+	@Test
+	void followAndUnfollowChangeRelationAndCountersOnlyOnce() {
+		assertChange(followRepository.follow(followerId, followingId).orElseThrow(), true, 1);
+		assertChange(followRepository.follow(followerId, followingId).orElseThrow(), false, 1);
+		assertStored(1);
+
+		assertChange(followRepository.unfollow(followerId, followingId).orElseThrow(), true, 0);
+		assertChange(followRepository.unfollow(followerId, followingId).orElseThrow(), false, 0);
+		assertStored(0);
+	}
+
+	@Test
+	void toggleFlipsRelationEachCall() {
+		FollowToggle followed = followRepository.toggle(followerId, followingId).orElseThrow();
+		assertChange(followed, true, 1);
+		assertThat(followed.getFollowing()).isTrue();
+		assertStored(1);
+
+		FollowToggle unfollowed = followRepository.toggle(followerId, followingId).orElseThrow();
+		assertChange(unfollowed, true, 0);
+		assertThat(unfollowed.getFollowing()).isFalse();
+		assertStored(0);
+	}
+
+	@Test
+	void returnsEmptyForMissingTargetWithoutChangingCounters() {
+		long missing = followingId + 1_000_000;
+
+		assertThat(followRepository.follow(followerId, missing)).isEmpty();
+		assertThat(followRepository.unfollow(followerId, missing)).isEmpty();
+		assertThat(followRepository.toggle(followerId, missing)).isEmpty();
+		assertThat(count("SELECT count(*) FROM follows WHERE follower_id = ?1", followerId)).isZero();
+		assertThat(count("SELECT following_count FROM users WHERE id = ?1", followerId)).isZero();
+	}
+
+	private User persistUser(String username) {
+		return entityManager.persist(User.builder()
+				.username(username)
+				.email(username + "@example.com")
+				.password("password")
+				.build());
+	}
+
+	// 응답의 대상 사용자 카운터 (대상은 아무도 팔로우하지 않음)
+	private void assertChange(FollowChange change, boolean changed, long followersCount) {
+		assertThat(change.getChanged()).isEqualTo(changed);
+		assertThat(change.getFollowersCount()).isEqualTo(followersCount);
+		assertThat(change.getFollowingCount()).isZero();
+	}
+
+	// 실제 관계 수와 양쪽 비정규화 카운터가 모두 expected
+	private void assertStored(long expected) {
+		assertThat(count("SELECT count(*) FROM follows WHERE follower_id = ?1", followerId)).isEqualTo(expected);
+		assertThat(count("SELECT followers_count FROM users WHERE id = ?1", followingId)).isEqualTo(expected);
+		assertThat(count("SELECT following_count FROM users WHERE id = ?1", followerId)).isEqualTo(expected);
+	}
+
+	private long count(String sql, Long id) {
+		return ((Number) entityManager.getEntityManager()
+				.createNativeQuery(sql)
+				.setParameter(1, id)
+				.getSingleResult()).longValue();
+	}
+}
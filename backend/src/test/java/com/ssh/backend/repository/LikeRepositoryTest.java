@@ -0,0 +1,115 @@
+package com.ssh.backend.repository;
+
+import com.ssh.backend.entity.Post;
+import com.ssh.backend.entity.User;
+import com.ssh.backend.repository.LikeRepository.LikeChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 설정/해제/토글 CTE 가 반복 호출에도 행과 카운터를 한 번만 바꾸는지 검증
+ * (Postgres 컨테이너, Docker 가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class LikeRepositoryTest {
+
+	@Container
+	static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	LikeRepository likeRepository;
+
+	@Autowired
+	TestEntityManager entityManager;
+
+	Long userId;
+	Long postId;
+
+	@BeforeEach
+	void setUp() {
+		User user = entityManager.persist(User.builder()
+				.username("liker")
+				.email("liker@example.com")
+				.password("password")
+				.build());
+		Post post = entityManager.persist(Post.builder()
+				.content("hello")
+				.user(user)
+				.build());
+		entityManager.flush();
+		userId = user.getId();
+		postId = post.getId();
+	}
+
+	@Test
+	void likeAndUnlikeChangeRowAndCounterOnlyOnce() {
+		assertChange(likeRepository.like(userId, postId).orElseThrow(), true, true, 1);
+		assertChange(likeRepository.like(userId, postId).orElseThrow(), false, true, 1);
+		assertStored(1);
+
+		assertChange(likeRepository.unlike(userId, postId).orElseThrow(), true, false, 0);
+		assertChange(likeRepository.unlike(userId, postId).orElseThrow(), false, false, 0);
+		assertStored(0);
+	}
+
+	@Test
+	void toggleFlipsStateEachCall() {
+		assertChange(likeRepository.toggle(userId, postId).orElseThrow(), true, true, 1);
+		assertStored(1);
+		assertChange(likeRepository.toggle(userId, postId).orElseThrow(), true, false, 0);
+		assertStored(0);
+
+		likeRepository.like(userId, postId);
+		assertChange(likeRepository.toggle(userId, postId).orElseThrow(), true, false, 0);
+		assertStored(0);
+	}
+
+	@Test
+	void returnsEmptyForMissingPostWithoutInserting() {
+		long missing = postId + 1_000_000;
+
+		assertThat(likeRepository.like(userId, missing)).isEmpty();
+		assertThat(likeRepository.unlike(userId, missing)).isEmpty();
+		assertThat(likeRepository.toggle(userId, missing)).isEmpty();
+		assertThat(count("SELECT count(*) FROM likes WHERE user_id = ?1", userId)).isZero();
+	}
+
+	private void assertChange(LikeChange change, boolean changed, boolean liked, long likeCount) {
+		assertThat(change.getChanged()).isEqualTo(changed);
+		assertThat(change.getLiked()).isEqualTo(liked);
+		assertThat(change.getLikeCount()).isEqualTo(likeCount);
+	}
+
+	// 실제 행 수와 비정규화 카운터가 모두 expected
+	private void assertStored(long expected) {
+		assertThat(count("SELECT count(*) FROM likes WHERE post_id = ?1", postId)).isEqualTo(expected);
+		assertThat(count("SELECT like_count FROM posts WHERE id = ?1", postId)).isEqualTo(expected);
+	}
+
+	private long count(String sql, Long id) {
+		return ((Number) entityManager.getEntityManager()
+				.createNativeQuery(sql)
+				.setParameter(1, id)
+				.getSingleResult()).longValue();
+	}
+}
@@ -0,0 +1,69 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.service.FeedPageCache.CachedPage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시된 피드 JSON 의 liked / likeCount 덮어쓰기 검증
+ */
+class FeedPageCacheTest {
+
+	private static final String PAGE = "{\"content\":["
+			+ "{\"id\":1,\"content\":\"say \\\"liked\\\":false\",\"likeCount\":9,\"liked\":false},"
+			+ "{\"id\":2,\"content\":\"b\",\"likeCount\":10,\"liked\":false},"
+			+ "{\"id\":3,\"content\":\"c\",\"likeCount\":0,\"liked\":false}"
+			+ "],\"totalElements\":3}";
+
+	@Test
+	void patchesLikedValuesOfViewerLikedPosts() {
+		CachedPage page = CachedPage.of(bytes(PAGE), List.of(1L, 2L, 3L), 0);
+
+		assertThat(page).isNotNull();
+		assertThat(text(page.withLiked(Set.of()))).isEqualTo(PAGE);
+		assertThat(page.withLiked(Set.of())).isSameAs(page.json());
+		assertThat(text(page.withLiked(Set.of(1L, 3L, 99L)))).isEqualTo(PAGE
+				.replace("\"likeCount\":9,\"liked\":false", "\"likeCount\":9,\"liked\":true ")
+				.replace("\"likeCount\":0,\"liked\":false", "\"likeCount\":0,\"liked\":true "));
+		// 캐시된 원본은 바뀌지 않음
+		assertThat(text(page.json())).isEqualTo(PAGE);
+	}
+
+	@Test
+	void adjustsLikeCountAndShiftsLaterOffsetsWhenDigitsChange() {
+		CachedPage page = CachedPage.of(bytes(PAGE), List.of(1L, 2L, 3L), 0);
+
+		CachedPage longer = page.withLikeCountDelta(0, 1);
+		String expected = PAGE.replace("\"likeCount\":9,", "\"likeCount\":10,");
+		assertThat(text(longer.json())).isEqualTo(expected);
+		assertThat(text(longer.withLiked(Set.of(2L, 3L)))).isEqualTo(expected
+				.replace("\"b\",\"likeCount\":10,\"liked\":false", "\"b\",\"likeCount\":10,\"liked\":true ")
+				.replace("\"likeCount\":0,\"liked\":false", "\"likeCount\":0,\"liked\":true "));
+
+		CachedPage shorter = longer.withLikeCountDelta(1, -1).withLikeCountDelta(0, -1);
+		String restored = PAGE.replace("\"likeCount\":10,", "\"likeCount\":9,");
+		assertThat(text(shorter.json())).isEqualTo(restored);
+		assertThat(text(shorter.withLikeCountDelta(2, 1).withLiked(Set.of(3L)))).isEqualTo(restored
+				.replace("\"likeCount\":0,\"liked\":false", "\"likeCount\":1,\"liked\":true "));
+	}
+
+	@Test
+	void rejectsPageWhosePatternsDoNotMatchPostCount() {
+		assertThat(CachedPage.of(bytes(PAGE), List.of(1L, 2L), 0)).isNull();
+		assertThat(CachedPage.of(bytes(PAGE), List.of(1L, 2L, 3L, 4L), 0)).isNull();
+		assertThat(CachedPage.of(bytes("{\"content\":[]}"), List.of(), 0)).isNotNull();
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String text(byte[] json) {
+		return new String(json, StandardCharsets.UTF_8);
+	}
+}
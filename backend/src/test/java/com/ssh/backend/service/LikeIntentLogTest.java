@@ -0,0 +1,91 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.service.LikeIntentLog.Entry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 의도 로그의 기록/세그먼트 전환/재시작 후 읽기 검증
+ */
+class LikeIntentLogTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void readsSyncedRecordsInOrderAfterRestart() throws IOException {
+		try (LikeIntentLog log = new LikeIntentLog(directory, true)) {
+			assertThat(log.previousSegments()).isEmpty();
+			long first = log.append(1, 10, true);
+			long second = log.append(2, 10, true);
+			log.sync(first);
+			// 먼저 sync 한 호출이 대기열 전체를 함께 기록함
+			assertThat(Files.size(onlySegment())).isEqualTo(34L);
+			log.sync(second);
+			log.append(1, 10, false);
+		}
+
+		try (LikeIntentLog log = new LikeIntentLog(directory, true)) {
+			assertThat(log.previousSegments()).hasSize(1);
+			assertThat(log.readPreviousSegments()).containsExactly(
+					new Entry(1, 10, true), new Entry(2, 10, true), new Entry(1, 10, false));
+		}
+	}
+
+	@Test
+	void rotatesSegmentsAndContinuesSequenceAfterRestart() throws IOException {
+		Path sealed;
+		try (LikeIntentLog log = new LikeIntentLog(directory, false)) {
+			log.append(1, 10, true);
+			sealed = log.rotate();
+			log.sync(log.append(2, 20, true));
+		}
+
+		try (LikeIntentLog log = new LikeIntentLog(directory, false)) {
+			List<Path> previous = log.previousSegments();
+			assertThat(previous).hasSize(2);
+			assertThat(previous.get(0)).isEqualTo(sealed);
+			assertThat(log.readPreviousSegments()).containsExactly(new Entry(1, 10, true), new Entry(2, 20, true));
+
+			// 새 세그먼트는 남은 것보다 뒤 번호
+			log.delete(previous);
+			assertThat(segments()).hasSize(1);
+			assertThat(segments().get(0).getFileName().toString())
+					.isGreaterThan(previous.get(1).getFileName().toString());
+		}
+	}
+
+	@Test
+	void dropsRecordTornByCrash() throws IOException {
+		try (LikeIntentLog log = new LikeIntentLog(directory, true)) {
+			log.sync(log.append(7, 70, true));
+		}
+		// 기록 중 끊긴 레코드 흉내 (17바이트 중 일부만)
+		Files.write(onlySegment(), new byte[]{0, 0, 0, 0, 0, 0, 0, 8, 0}, StandardOpenOption.APPEND);
+
+		try (LikeIntentLog log = new LikeIntentLog(directory, true)) {
+			assertThat(log.readPreviousSegments()).containsExactly(new Entry(7, 70, true));
+		}
+	}
+
+	private Path onlySegment() throws IOException {
+		List<Path> segments = segments();
+		assertThat(segments).hasSize(1);
+		return segments.get(0);
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.sorted().toList();
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.repository.LikeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 좋아요 write-behind 버퍼의 로그 재반영과 반영 실패 시 복구 검증 (DB 는 mock)
+ */
+class LikeWriteBehindBufferTest {
+
+	@TempDir
+	Path directory;
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final LikeRepository likeRepository = mock(LikeRepository.class);
+	private final LikedPostsCache likedPostsCache = mock(LikedPostsCache.class);
+	private LikeWriteBehindBuffer buffer;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (buffer != null) {
+			buffer.shutdown();
+		}
+	}
+
+	@Test
+	void replaysLeftoverLogOnStartup() throws Exception {
+		try (LikeIntentLog log = new LikeIntentLog(directory, false)) {
+			log.append(3, 20, true);
+			log.append(1, 10, true);
+			log.append(2, 10, true);
+			// 같은 사용자/게시물은 마지막 의도만 남고, 원래 상태로 돌아오면 쓰지 않음
+			log.append(2, 10, false);
+		}
+
+		start();
+
+		ArgumentCaptor<PreparedStatementCreator> statement = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		verify(jdbcTemplate, times(1)).update(statement.capture());
+		Connection connection = mock(Connection.class);
+		when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+		when(connection.createArrayOf(anyString(), any(Object[].class))).thenReturn(mock(Array.class));
+		statement.getValue().createPreparedStatement(connection);
+		// 게시물, 사용자 순으로 정렬된 좋아요 배열과 빈 취소 배열
+		verify(connection).createArrayOf("bigint", new Object[]{1L, 3L});
+		verify(connection).createArrayOf("bigint", new Object[]{10L, 20L});
+		verify(connection, times(2)).createArrayOf("bigint", new Object[0]);
+
+		verify(likedPostsCache).apply(1L, 10L, true);
+		verify(likedPostsCache).apply(2L, 10L, false);
+		verify(likedPostsCache).apply(3L, 20L, true);
+		assertThat(buffer.pendingState(1L, 10L)).isNull();
+		assertThat(buffer.pendingDelta(10L)).isZero();
+		// 반영된 세그먼트는 지우고 새 세그먼트만 남음
+		assertThat(segments()).hasSize(1);
+		assertThat(Files.size(segments().get(0))).isZero();
+	}
+
+	@Test
+	void keepsIntentAndLogWhenFlushFails() throws Exception {
+		when(jdbcTemplate.update(any(PreparedStatementCreator.class)))
+				.thenThrow(new DataAccessResourceFailureException("database unavailable"))
+				.thenReturn(1);
+		start();
+
+		assertThat(buffer.record(1L, 10L, true).changed()).isTrue();
+		assertThat(buffer.record(1L, 10L, true).changed()).isFalse();
+
+		buffer.flush();
+
+		assertThat(buffer.pendingState(1L, 10L)).isTrue();
+		assertThat(buffer.pendingDelta(10L)).isEqualTo(1L);
+		verify(likedPostsCache, never()).apply(any(), any(), anyBoolean());
+		// 닫힌 세그먼트를 남겨 두어 이 상태로 종료돼도 재시작 시 다시 반영됨
+		assertThat(segments()).hasSize(2);
+
+		buffer.flush();
+
+		assertThat(buffer.pendingState(1L, 10L)).isNull();
+		assertThat(buffer.pendingDelta(10L)).isZero();
+		verify(likedPostsCache).apply(1L, 10L, true);
+		assertThat(segments()).hasSize(1);
+	}
+
+	@Test
+	void togglesAgainstPersistedStateAndRestoresNewerIntent() throws Exception {
+		when(likeRepository.existsByUser_IdAndPost_Id(1L, 10L)).thenReturn(true);
+		when(jdbcTemplate.update(any(PreparedStatementCreator.class)))
+				.thenThrow(new DataAccessResourceFailureException("database unavailable"))
+				.thenReturn(1);
+		start();
+
+		// DB 에 좋아요가 있으므로 토글은 취소
+		assertThat(buffer.record(1L, 10L, null).liked()).isFalse();
+		assertThat(buffer.pendingDelta(10L)).isEqualTo(-1L);
+
+		buffer.flush();
+		// 되돌린 의도 위에 다시 토글하면 DB 상태(좋아요)로 돌아가 쓸 것이 없음
+		assertThat(buffer.record(1L, 10L, null).liked()).isTrue();
+		assertThat(buffer.pendingDelta(10L)).isZero();
+
+		buffer.flush();
+		verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+		verify(likedPostsCache).apply(1L, 10L, true);
+	}
+
+	private void start() throws IOException {
+		buffer = new LikeWriteBehindBuffer(jdbcTemplate, likeRepository, likedPostsCache);
+		ReflectionTestUtils.setField(buffer, "stripeCount", 4);
+		ReflectionTestUtils.setField(buffer, "batchSize", 1000);
+		// 주기 flush 가 끼어들지 않도록 길게
+		ReflectionTestUtils.setField(buffer, "flushInterval", 60_000L);
+		ReflectionTestUtils.setField(buffer, "logDir", directory.toString());
+		ReflectionTestUtils.setField(buffer, "fsync", false);
+		buffer.init();
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.sorted().toList();
+		}
+	}
+}
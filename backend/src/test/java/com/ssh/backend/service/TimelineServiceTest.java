@@ -0,0 +1,42 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.dto.FeedCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 홈 타임라인 푸시/풀 후보 병합 검증
+ */
+class TimelineServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+	@Test
+	void mergesNewestFirstWithoutDuplicates() {
+		List<FeedCursor> pushed = List.of(key(50, 5), key(30, 3), key(10, 1));
+		// 같은 게시물이 양쪽에 있으면 한 번만 (풀 쪽 값 사용)
+		List<FeedCursor> pulled = List.of(key(40, 4), key(30, 3), key(20, 2));
+
+		List<FeedCursor> merged = TimelineService.merge(pushed, pulled, 10);
+
+		assertThat(merged).containsExactly(key(50, 5), key(40, 4), key(30, 3), key(20, 2), key(10, 1));
+	}
+
+	@Test
+	void breaksTiesByIdAndStopsAtLimit() {
+		List<FeedCursor> pushed = List.of(key(30, 7), key(30, 9), key(10, 1));
+		List<FeedCursor> pulled = List.of(key(30, 8), key(20, 2));
+
+		assertThat(TimelineService.merge(pushed, pulled, 3)).containsExactly(key(30, 9), key(30, 8), key(30, 7));
+		assertThat(TimelineService.merge(pushed, List.of(), 10)).containsExactly(key(30, 9), key(30, 7), key(10, 1));
+		assertThat(TimelineService.merge(List.of(), List.of(), 10)).isEmpty();
+	}
+
+	private static FeedCursor key(int minutes, long postId) {
+		return new FeedCursor(BASE.plusMinutes(minutes), postId);
+	}
+}
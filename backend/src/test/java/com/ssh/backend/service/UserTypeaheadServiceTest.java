@@ -0,0 +1,86 @@
+package com.ssh.backend.service;
+
+import com.ssh.backend.service.UserTypeaheadService.Entry;
+import com.ssh.backend.service.UserTypeaheadService.TopUsers;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접두사별 상위 목록(TopUsers)의 변경 반영 검증
+ */
+class UserTypeaheadServiceTest {
+
+	private static final int LIMIT = 3;
+
+	@Test
+	void addsMatchingUserInRankOrderAndDropsOverflow() {
+		TopUsers top = new TopUsers(List.of(entry(1, "amy", 30), entry(2, "ann", 10)), true);
+
+		TopUsers added = top.update(3L, entry(3, "abe", 20), LIMIT);
+		assertThat(ids(added)).containsExactly(1L, 3L, 2L);
+		assertThat(added.complete()).isTrue();
+
+		// 한도를 넘으면 마지막 항목을 버리고 더 이상 전체 목록이 아님
+		TopUsers overflow = added.update(4L, entry(4, "ada", 25), LIMIT);
+		assertThat(ids(overflow)).containsExactly(1L, 4L, 3L);
+		assertThat(overflow.complete()).isFalse();
+		assertThat(overflow.isExact(LIMIT)).isTrue();
+	}
+
+	@Test
+	void ignoresOutsiderRankedBelowIncompleteList() {
+		TopUsers top = new TopUsers(List.of(entry(1, "amy", 30), entry(2, "ann", 20), entry(3, "abe", 10)), false);
+
+		assertThat(top.update(9L, entry(9, "ava", 5), LIMIT)).isSameAs(top);
+		assertThat(top.update(9L, null, LIMIT)).isSameAs(top);
+
+		TopUsers promoted = top.update(9L, entry(9, "ava", 15), LIMIT);
+		assertThat(ids(promoted)).containsExactly(1L, 2L, 9L);
+		assertThat(promoted.complete()).isFalse();
+	}
+
+	@Test
+	void shrinksWhenMemberFallsBehindIncompleteList() {
+		TopUsers top = new TopUsers(List.of(entry(1, "amy", 30), entry(2, "ann", 20), entry(3, "abe", 10)), false);
+
+		// 목록 밖 사용자가 앞설 수 있으므로 빈자리를 채우지 않고 한 명 짧아짐
+		TopUsers demoted = top.update(1L, entry(1, "amy", 1), LIMIT);
+		assertThat(ids(demoted)).containsExactly(2L, 3L);
+		assertThat(demoted.isExact(LIMIT)).isFalse();
+		assertThat(demoted.isExact(LIMIT - 1)).isTrue();
+
+		TopUsers removed = top.update(2L, null, LIMIT);
+		assertThat(ids(removed)).containsExactly(1L, 3L);
+		assertThat(removed.isExact(LIMIT)).isFalse();
+	}
+
+	@Test
+	void reordersMemberWithinCompleteList() {
+		TopUsers top = new TopUsers(List.of(entry(1, "amy", 30), entry(2, "ann", 20)), true);
+
+		TopUsers raised = top.update(2L, entry(2, "ann", 40), LIMIT);
+		assertThat(ids(raised)).containsExactly(2L, 1L);
+
+		// 전체 목록이면 순위가 내려가도 남고, 빠지면 그대로 정확함
+		TopUsers lowered = raised.update(2L, entry(2, "ann", 0), LIMIT);
+		assertThat(ids(lowered)).containsExactly(1L, 2L);
+		TopUsers removed = lowered.update(1L, null, LIMIT);
+		assertThat(ids(removed)).containsExactly(2L);
+		assertThat(removed.isExact(LIMIT)).isTrue();
+
+		// 팔로워 수가 같으면 username 순
+		TopUsers tie = TopUsers.NONE.update(5L, entry(5, "bob", 7), LIMIT).update(6L, entry(6, "ada", 7), LIMIT);
+		assertThat(ids(tie)).containsExactly(6L, 5L);
+	}
+
+	private static Entry entry(long id, String username, long followersCount) {
+		return new Entry(id, username, username, null, followersCount);
+	}
+
+	private static List<Long> ids(TopUsers top) {
+		return top.users().stream().map(Entry::id).toList();
+	}
+}
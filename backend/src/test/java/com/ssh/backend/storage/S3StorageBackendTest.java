@@ -0,0 +1,146 @@
+package com.ssh.backend.storage;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MinIO 컨테이너로 S3 저장소 검증 (Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3StorageBackendTest {
+
+	private static final String BUCKET = "uploads";
+
+	// 멀티파트 임계값(8MB)을 넘는 크기
+	private static final long LARGE_SIZE = 12L * 1024 * 1024 + 123;
+
+	@Container
+	static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+	static AmazonS3 amazonS3;
+	static S3StorageBackend storage;
+
+	@BeforeAll
+	static void setUp() {
+		amazonS3 = AmazonS3ClientBuilder.standard()
+				.withCredentials(new AWSStaticCredentialsProvider(
+						new BasicAWSCredentials(minio.getUserName(), minio.getPassword())))
+				.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(minio.getS3URL(), "us-east-1"))
+				.withPathStyleAccessEnabled(true)
+				.build();
+		amazonS3.createBucket(BUCKET);
+		storage = new S3StorageBackend(amazonS3, BUCKET);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		storage.shutdown();
+		amazonS3.shutdown();
+	}
+
+	@Test
+	void storesLargeObjectWithMultipartUploadAndReadsItBack() throws Exception {
+		String key = "large.bin";
+		MessageDigest uploaded = MessageDigest.getInstance("SHA-256");
+		try (InputStream content = new DigestInputStream(new PatternInputStream(LARGE_SIZE), uploaded)) {
+			storage.store(key, content, LARGE_SIZE, "application/octet-stream");
+		}
+
+		Optional<StoredObject> stat = storage.stat(key);
+		assertThat(stat).isPresent();
+		assertThat(stat.get().size()).isEqualTo(LARGE_SIZE);
+
+		assertThat(digest(storage.open(key))).isEqualTo(uploaded.digest());
+
+		storage.delete(key);
+		assertThat(storage.stat(key)).isEmpty();
+		assertThat(storage.exists(key)).isFalse();
+	}
+
+	@Test
+	void opensOnlyTheRequestedRange() throws Exception {
+		String key = "range.bin";
+		long size = 64 * 1024;
+		try (InputStream content = new PatternInputStream(size)) {
+			storage.store(key, content, size, "application/octet-stream");
+		}
+
+		long start = 40_000;
+		int length = 1_000;
+		byte[] expected = new byte[length];
+		for (int i = 0; i < length; i++) {
+			expected[i] = (byte) ((start + i) * 31 % 251);
+		}
+		try (InputStream in = storage.open(key, start, length)) {
+			assertThat(in.readAllBytes()).isEqualTo(expected);
+		}
+
+		storage.delete(key);
+	}
+
+	@Test
+	void statOfMissingKeyIsEmpty() throws IOException {
+		assertThat(storage.stat("missing.png")).isEmpty();
+	}
+
+	private static byte[] digest(InputStream in) throws IOException, NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		try (in) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return digest.digest();
+	}
+
+	// 힙에 전체를 만들지 않고 지정 길이만큼 바이트를 생성하는 스트림
+	private static final class PatternInputStream extends InputStream {
+
+		private final long length;
+		private long position;
+
+		PatternInputStream(long length) {
+			this.length = length;
+		}
+
+		@Override
+		public int read() {
+			if (position >= length) {
+				return -1;
+			}
+			return (int) (position++ * 31 % 251);
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (position >= length) {
+				return -1;
+			}
+			int count = (int) Math.min(len, length - position);
+			for (int i = 0; i < count; i++) {
+				b[off + i] = (byte) (position++ * 31 % 251);
+			}
+			return count;
+		}
+	}
+}
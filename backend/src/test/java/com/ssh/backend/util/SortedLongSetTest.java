@@ -0,0 +1,98 @@
+package com.ssh.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SortedLongSet 변경(delta/병합)과 교집합 검증
+ */
+class SortedLongSetTest {
+
+	@Test
+	void intersectReturnsCommonValuesInOrderUpToLimit() {
+		SortedLongSet a = SortedLongSet.of(new long[]{9, 1, 5, 3, 7, 3});
+		SortedLongSet b = SortedLongSet.of(new long[]{2, 3, 4, 5, 9, 10});
+
+		assertThat(a.size()).isEqualTo(5);
+		assertThat(a.intersect(b, 10)).containsExactly(3, 5, 9);
+		assertThat(a.intersect(b, 2)).containsExactly(3, 5);
+		assertThat(a.intersect(b, 0)).isEmpty();
+		assertThat(a.intersectCount(b)).isEqualTo(3);
+		assertThat(a.intersect(SortedLongSet.empty(), 10)).isEmpty();
+	}
+
+	@Test
+	void intersectSkipsThroughMuchLargerSet() {
+		long[] evens = new long[10_000];
+		for (int i = 0; i < evens.length; i++) {
+			evens[i] = i * 2L;
+		}
+		SortedLongSet large = SortedLongSet.of(evens);
+		SortedLongSet small = SortedLongSet.of(new long[]{-1, 0, 3, 500, 501, 19_998, 20_000});
+
+		assertThat(small.intersect(large, 10)).containsExactly(0, 500, 19_998);
+		assertThat(large.intersect(small, 10)).containsExactly(0, 500, 19_998);
+		assertThat(large.intersectCount(small)).isEqualTo(3);
+	}
+
+	@Test
+	void withAndWithoutKeepDeltaUntilCompaction() {
+		SortedLongSet set = SortedLongSet.of(new long[]{10, 20, 30});
+
+		SortedLongSet changed = set.with(15).without(20).with(20).without(30).with(40);
+
+		assertThat(changed.toArray()).containsExactly(10, 15, 20, 40);
+		assertThat(changed.contains(30)).isFalse();
+		assertThat(changed.contains(15)).isTrue();
+		assertThat(set.toArray()).containsExactly(10, 20, 30);
+		assertThat(changed.with(10)).isSameAs(changed);
+		assertThat(changed.without(99)).isSameAs(changed);
+		assertThat(changed.intersect(SortedLongSet.of(new long[]{15, 30, 40}), 10)).containsExactly(15, 40);
+	}
+
+	@Test
+	void matchesTreeSetUnderRandomChanges() {
+		Random random = new Random(42);
+		TreeSet<Long> expectedA = new TreeSet<>();
+		TreeSet<Long> expectedB = new TreeSet<>();
+		SortedLongSet a = SortedLongSet.empty();
+		SortedLongSet b = SortedLongSet.empty();
+
+		for (int i = 0; i < 20_000; i++) {
+			long value = random.nextInt(3_000);
+			// a 는 변경이 잦고, b 는 대부분 추가라 delta 병합이 양쪽에서 일어남
+			if (random.nextInt(3) == 0) {
+				a = a.without(value);
+				expectedA.remove(value);
+			} else {
+				a = a.with(value);
+				expectedA.add(value);
+			}
+			if (random.nextInt(10) == 0) {
+				b = b.without(value + 1);
+				expectedB.remove(value + 1);
+			} else {
+				b = b.with(value / 2);
+				expectedB.add(value / 2);
+			}
+
+			if (i % 1_000 == 0) {
+				assertThat(a.toArray()).containsExactly(toArray(expectedA));
+				TreeSet<Long> common = new TreeSet<>(expectedA);
+				common.retainAll(expectedB);
+				assertThat(a.intersect(b, Integer.MAX_VALUE)).containsExactly(toArray(common));
+				assertThat(b.intersectCount(a)).isEqualTo(common.size());
+			}
+		}
+		assertThat(a.size()).isEqualTo(expectedA.size());
+		assertThat(b.toArray()).containsExactly(toArray(expectedB));
+	}
+
+	private static long[] toArray(TreeSet<Long> values) {
+		return values.stream().mapToLong(Long::longValue).toArray();
+	}
+}